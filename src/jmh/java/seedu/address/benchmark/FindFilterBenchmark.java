@@ -0,0 +1,158 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ExerciseStatusMatchesPredicate;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+import seedu.address.model.person.predicates.GithubContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.StudentIdContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures executing {@code find} and {@code filter} commands, i.e. filtering the person list with their
+ * predicates, over {@code studentCount} generated students.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private Model model;
+    private Predicate<Person> keywordsPredicate;
+    private Command findByKeywords;
+    private Command findByStudentId;
+    private Command filterByExercise;
+    private Command filterCombined;
+    private Command filterByStatuses;
+    private Predicate<Person> statusesPredicate;
+
+    /**
+     * Loads the generated students into a model and parses the commands to execute.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(new SyntheticDataGenerator().generateAddressBook(studentCount), new UserPrefs());
+        List<String> keywords = List.of("tan", "struggling");
+        keywordsPredicate = new PersonContainsKeywordsPredicate(List.of(
+                new StudentIdContainsKeywordsPredicate(keywords), new NameContainsKeywordsPredicate(keywords),
+                new EmailContainsKeywordsPredicate(keywords), new GithubContainsKeywordsPredicate(keywords),
+                new PhoneContainsKeywordsPredicate(keywords), new TagContainsKeywordsPredicate(keywords)));
+        AddressBookParser parser = new AddressBookParser();
+        findByKeywords = parser.parseCommand("find tan struggling");
+        findByStudentId = parser.parseCommand("find A0000042 i/");
+        filterByExercise = parser.parseCommand("filter ei/1 s/Y");
+        filterCombined = parser.parseCommand("filter ei/1 s/Y l/2 s/N la/>=50");
+        filterByStatuses = parser.parseCommand("filter ei/3 s/O l/2 s/A");
+        statusesPredicate = new FilterCombinedPredicate(List.of(
+                new ExerciseStatusMatchesPredicate(Index.fromZeroBased(3), Status.OVERDUE),
+                new LabStatusMatchesPredicate(Index.fromOneBased(2), "A"))).atWeek(model.getCurrentWeek());
+    }
+
+    @Benchmark
+    public int findByKeywords() throws CommandException {
+        return execute(findByKeywords);
+    }
+
+    /**
+     * Filters with the predicate of {@code findByKeywords} hidden from the search index, so that every person is
+     * tested with it.
+     */
+    @Benchmark
+    public int findByKeywordsWithoutIndex() {
+        model.updateFilteredPersonList(person -> keywordsPredicate.test(person));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Rebuilds the search index, as the first search after the roster is loaded or replaced does.
+     */
+    @Benchmark
+    public int buildSearchIndex() {
+        PersonSearchIndex searchIndex = ((AddressBook) model.getAddressBook()).getSearchIndex();
+        searchIndex.invalidate();
+        return searchIndex.find(PersonSearchIndex.Field.NAME, List.of("tan")).cardinality();
+    }
+
+    @Benchmark
+    public int findByStudentId() throws CommandException {
+        return execute(findByStudentId);
+    }
+
+    @Benchmark
+    public int filterByExercise() throws CommandException {
+        return execute(filterByExercise);
+    }
+
+    @Benchmark
+    public int filterCombined() throws CommandException {
+        return execute(filterCombined);
+    }
+
+    /**
+     * Filters with {@code filterByExercise} and then narrows it down to {@code filterCombined}, as a user adding
+     * conditions to a filter one at a time does.
+     */
+    @Benchmark
+    public int refineFilter() throws CommandException {
+        execute(filterByExercise);
+        return execute(filterCombined);
+    }
+
+    @Benchmark
+    public int filterByStatuses() throws CommandException {
+        return execute(filterByStatuses);
+    }
+
+    /**
+     * Filters with the predicate of {@code filterByStatuses} hidden from the status bitmaps, so that every person is
+     * tested with it.
+     */
+    @Benchmark
+    public int filterByStatusesWithoutIndex() {
+        model.updateFilteredPersonList(person -> statusesPredicate.test(person));
+        return model.getFilteredPersonList().size();
+    }
+
+    private int execute(Command command) throws CommandException {
+        command.execute(model);
+        return model.getFilteredPersonList().size();
+    }
+}
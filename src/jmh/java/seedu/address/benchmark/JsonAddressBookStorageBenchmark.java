@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures saving and loading {@code studentCount} generated students with {@link JsonAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private Path directory;
+    private ReadOnlyAddressBook addressBook;
+    private JsonAddressBookStorage savedStorage;
+    private JsonAddressBookStorage scratchStorage;
+
+    /**
+     * Generates the students and saves them once, so that there is a file to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        addressBook = new SyntheticDataGenerator().generateAddressBook(studentCount);
+        savedStorage = new JsonAddressBookStorage(directory.resolve("saved.json"));
+        savedStorage.saveAddressBook(addressBook);
+        scratchStorage = new JsonAddressBookStorage(directory.resolve("scratch.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getAddressBookFilePath());
+        Files.deleteIfExists(scratchStorage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        scratchStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return savedStorage.readAddressBook();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddConsultationCommand;
+import seedu.address.logic.commands.BlockTimeslotCommand;
+import seedu.address.logic.commands.ClassStatsCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClearTimeslotsCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GetConsultationsCommand;
+import seedu.address.logic.commands.GetTimeslotCommand;
+import seedu.address.logic.commands.GradeCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.logic.commands.MarkExerciseCommand;
+import seedu.address.logic.commands.SetWeekCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.commands.UnblockTimeslotCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand} on a typical input for each command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final Map<String, String> SAMPLE_INPUTS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, "add i/A1234567X n/John Doe p/98765432 e/johnd@example.com "
+                    + "g/JohnDoe t/modelStudent"),
+            Map.entry(AddConsultationCommand.COMMAND_WORD,
+                    "add-consultation ts/2025-10-04T10:00:00 te/2025-10-04T11:00:00 n/John Doe"),
+            Map.entry(BlockTimeslotCommand.COMMAND_WORD, "block-timeslot ts/1 Jan 2025, 10:00 te/1 Jan 2025, 11:00"),
+            Map.entry(ClearCommand.COMMAND_WORD, "clear"),
+            Map.entry(ClearTimeslotsCommand.COMMAND_WORD, "clear-timeslots"),
+            Map.entry(DeleteCommand.COMMAND_WORD, "delete 1:5"),
+            Map.entry(EditCommand.COMMAND_WORD, "edit 1:2 p/91234567 e/johndoe@example.com t/struggling"),
+            Map.entry(ExitCommand.COMMAND_WORD, "exit"),
+            Map.entry(FilterCommand.COMMAND_WORD, "filter ei/1 s/Y l/2 s/N la/>=50"),
+            Map.entry(FindCommand.COMMAND_WORD, "find alice bob A1231234B i/ n/"),
+            Map.entry(GetConsultationsCommand.COMMAND_WORD, "get-consultations"),
+            Map.entry(GetTimeslotCommand.COMMAND_WORD, "get-timeslots"),
+            Map.entry(GradeCommand.COMMAND_WORD, "grade 1:3 en/midterm s/y"),
+            Map.entry(HelpCommand.COMMAND_WORD, "help"),
+            Map.entry(ListCommand.COMMAND_WORD, "list"),
+            Map.entry(MarkAttendanceCommand.COMMAND_WORD, "marka 1:5 l/1 s/y"),
+            Map.entry(MarkExerciseCommand.COMMAND_WORD, "marke 1:3 ei/1 s/y"),
+            Map.entry(SetWeekCommand.COMMAND_WORD, "set-week 7"),
+            Map.entry(SortCommand.COMMAND_WORD, "sort c/name"),
+            Map.entry(StatsCommand.COMMAND_WORD, "stats f/stats.txt"),
+            Map.entry(ClassStatsCommand.COMMAND_WORD, "stats-class"),
+            Map.entry(TopCommand.COMMAND_WORD, "top 10% c/ex"),
+            Map.entry(TopCommand.BOTTOM_COMMAND_WORD, "bottom 20 c/lab"),
+            Map.entry(UnblockTimeslotCommand.COMMAND_WORD,
+                    "unblock-timeslot ts/2025-10-04T10:00:00 te/2025-10-04T13:00:00"),
+            Map.entry(UndoCommand.COMMAND_WORD, "undo"));
+
+    @Param({"add", "add-consultation", "block-timeslot", "clear", "clear-timeslots", "delete", "edit", "exit",
+        "filter", "find", "get-consultations", "get-timeslots", "grade", "help", "list", "marka", "marke",
+        "set-week", "sort", "stats", "stats-class", "top", "bottom", "unblock-timeslot", "undo"})
+    private String commandWord;
+
+    private AddressBookParser parser;
+    private String input;
+
+    /**
+     * Looks up the input for {@code commandWord} and checks that it parses.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        parser = new AddressBookParser();
+        input = SAMPLE_INPUTS.get(commandWord);
+        if (input == null) {
+            throw new IllegalArgumentException("No sample input for command " + commandWord);
+        }
+        parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
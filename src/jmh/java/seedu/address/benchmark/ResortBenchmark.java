@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures switching {@code studentCount} generated students back to the order of each sort criterion after sorting
+ * them by student ID and replacing one of them, as a user alternating between sort orders while editing does.
+ * Unlike {@code SortBenchmark}, the students have been sorted by both criteria before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResortBenchmark {
+
+    @Param({"name", "lab", "ex"})
+    private String criterion;
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private Model model;
+    private AddressBook addressBook;
+    private Command sortCommand;
+    private Command sortByIdCommand;
+
+    /**
+     * Loads the generated students and sorts them by both criteria once.
+     */
+    @Setup
+    public void setUp() throws ParseException, CommandException {
+        model = new ModelManager(new SyntheticDataGenerator().generateAddressBook(studentCount), new UserPrefs());
+        addressBook = (AddressBook) model.getAddressBook();
+        AddressBookParser parser = new AddressBookParser();
+        sortCommand = parser.parseCommand(SortCommand.COMMAND_WORD + " c/" + criterion);
+        sortByIdCommand = parser.parseCommand(SortCommand.COMMAND_WORD + " c/id");
+        sortCommand.execute(model);
+    }
+
+    @Benchmark
+    public Model resort() throws CommandException {
+        sortByIdCommand.execute(model);
+        Person person = addressBook.getPersonList().get(studentCount / 2);
+        addressBook.setPerson(person, person);
+        sortCommand.execute(model);
+        return model;
+    }
+}
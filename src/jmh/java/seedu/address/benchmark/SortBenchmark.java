@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures executing a {@code sort} command for each sort criterion over {@code studentCount} generated students.
+ * The students are shuffled before every invocation, so no invocation sorts an already sorted list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    @Param({"name", "id", "lab", "ex"})
+    private String criterion;
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private final Random random = new Random(SyntheticDataGenerator.DEFAULT_SEED);
+    private List<Person> persons;
+    private AddressBook shuffled;
+    private Model model;
+    private Command sortCommand;
+
+    /**
+     * Generates the students and parses the sort command.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        persons = new ArrayList<>(new SyntheticDataGenerator().generatePersons(studentCount));
+        shuffled = new AddressBook();
+        model = new ModelManager();
+        sortCommand = new AddressBookParser().parseCommand(SortCommand.COMMAND_WORD + " c/" + criterion);
+    }
+
+    /**
+     * Loads the students into the model in a new random order.
+     */
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        Collections.shuffle(persons, random);
+        shuffled.setPersons(persons);
+        model.setAddressBook(shuffled);
+    }
+
+    @Benchmark
+    public Model sort() throws CommandException {
+        sortCommand.execute(model);
+        return model;
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Timeslots;
+import seedu.address.model.timeslot.Timeslot;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures adding a timeslot to, and reading the merged ranges of, {@code timeslotCount} generated timeslots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeslotsBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 6);
+
+    @Param({"100", "1000", "10000"})
+    private int timeslotCount;
+
+    private Timeslots timeslots;
+    private Timeslot newTimeslot;
+
+    /**
+     * Generates the timeslots, and a timeslot to add that overlaps none of them.
+     */
+    @Setup
+    public void setUp() {
+        timeslots = new SyntheticDataGenerator().generateTimeslots(timeslotCount, FIRST_DAY);
+        LocalDateTime beforeAll = FIRST_DAY.minusDays(1).atTime(9, 0);
+        newTimeslot = new Timeslot(beforeAll, beforeAll.plusHours(1));
+    }
+
+    /**
+     * Adds a timeslot, which must first be checked against the existing ones for overlaps, and removes it again.
+     */
+    @Benchmark
+    public Timeslots addThenRemove() {
+        timeslots.addTimeslot(newTimeslot);
+        timeslots.removeTimeslot(newTimeslot);
+        return timeslots;
+    }
+
+    @Benchmark
+    public List<LocalDateTime[]> getMergedTimeslotRanges() {
+        return timeslots.getMergedTimeslotRanges();
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures single-person mutations of a {@link UniquePersonList} holding {@code studentCount} generated students.
+ * Each benchmark undoes its own mutation, so the list is the same size at every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private UniquePersonList persons;
+    private Person newcomer;
+    private Person original;
+    private Person edited;
+
+    /**
+     * Fills the list with generated students, keeping back one to add and picking one in the middle to edit.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> generated = new SyntheticDataGenerator().generatePersons(studentCount + 1);
+        newcomer = generated.remove(studentCount);
+        persons = new UniquePersonList();
+        persons.setPersons(generated);
+        original = generated.get(studentCount / 2);
+        edited = new Person(original.getStudentId(), newcomer.getName(), newcomer.getPhone(), newcomer.getEmail(),
+                newcomer.getTags(), newcomer.getGithubUsername(), original.getExerciseTracker(),
+                original.getLabAttendanceList(), original.getGradeMap());
+    }
+
+    /**
+     * Adds a student at the end of the list and removes them again.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        persons.add(newcomer);
+        persons.remove(newcomer);
+        return persons;
+    }
+
+    /**
+     * Replaces a student in the middle of the list with an edited copy, and swaps the two for the next invocation.
+     */
+    @Benchmark
+    public UniquePersonList setPerson() {
+        persons.setPerson(original, edited);
+        Person swap = original;
+        original = edited;
+        edited = swap;
+        return persons;
+    }
+
+    /**
+     * Removes a student from the middle of the list and adds them back at the end.
+     */
+    @Benchmark
+    public UniquePersonList removeThenAdd() {
+        Person leaver = persons.asUnmodifiableObservableList().get(studentCount / 2);
+        persons.remove(leaver);
+        persons.add(leaver);
+        return persons;
+    }
+}
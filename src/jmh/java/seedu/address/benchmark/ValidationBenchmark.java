@@ -0,0 +1,142 @@
+package seedu.address.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GithubUsername;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of a bulk load of stored persons with the model's validators against doing so the
+ * way they used to, by running {@code String#matches} and splitting the tracker strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final String[] STATUSES = {"Y", "N", "A"};
+    private static final String[] EXERCISE_STATUSES = {"N", "D", "I", "O"};
+
+    @Param({"100000"})
+    private int recordCount;
+
+    private String[][] records;
+
+    /**
+     * Generates {@code recordCount} valid records from a fixed seed, so every run validates the same data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        records = new String[recordCount][];
+        for (int i = 0; i < recordCount; i++) {
+            StringBuilder labs = new StringBuilder();
+            for (int lab = 1; lab <= LabList.NUMBER_OF_LABS; lab++) {
+                labs.append('L').append(lab).append(": ").append(STATUSES[random.nextInt(STATUSES.length)]).append(' ');
+            }
+            StringBuilder exercises = new StringBuilder();
+            for (int ex = 0; ex < ExerciseTracker.NUMBER_OF_EXERCISES; ex++) {
+                exercises.append(ex == 0 ? "" : " ").append("ex ").append(ex).append(": ")
+                        .append(EXERCISE_STATUSES[random.nextInt(EXERCISE_STATUSES.length)]);
+            }
+            records[i] = new String[] {
+                String.format("A%07d%c", i, (char) ('A' + random.nextInt(26))),
+                "Student " + Integer.toString(random.nextInt(Integer.MAX_VALUE), 36),
+                String.valueOf(80000000 + random.nextInt(20000000)),
+                "e" + i + "@u.nus.edu",
+                "student-" + i,
+                "tutorial" + random.nextInt(20),
+                labs.toString(),
+                exercises.toString()
+            };
+        }
+    }
+
+    @Benchmark
+    public int validators() {
+        int validCount = 0;
+        for (String[] record : records) {
+            if (StudentId.isValidStudentId(record[0])
+                    && Name.isValidName(record[1])
+                    && Phone.isValidPhone(record[2])
+                    && Email.isValidEmail(record[3])
+                    && GithubUsername.isValidGithubUsername(record[4])
+                    && Tag.isValidTagName(record[5])
+                    && LabList.isValidLabList(record[6])
+                    && ExerciseTracker.isValidExerciseTracker(record[7])) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int regexAndSplitting() {
+        int validCount = 0;
+        for (String[] record : records) {
+            if (record[0].matches(StudentId.VALIDATION_REGEX)
+                    && record[1].matches(Name.VALIDATION_REGEX)
+                    && record[2].matches(Phone.VALIDATION_REGEX)
+                    && record[3].matches(Email.VALIDATION_REGEX)
+                    && record[4].matches(GithubUsername.VALIDATION_REGEX)
+                    && record[5].matches(Tag.VALIDATION_REGEX)
+                    && isValidLabListBySplitting(record[6])
+                    && isValidExerciseTrackerBySplitting(record[7])) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    private static boolean isValidLabListBySplitting(String labListString) {
+        String[] parts = labListString.trim().split("\\s+");
+        if (parts.length != LabList.NUMBER_OF_LABS * 2) {
+            return false;
+        }
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            String status = parts[i * 2 + 1];
+            if (!parts[i * 2].equals("L" + (i + 1) + ":")
+                    || !status.equals("Y") && !status.equals("N") && !status.equals("A")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidExerciseTrackerBySplitting(String trackerString) {
+        String[] parts = trackerString.trim().split("\\s+");
+        if (parts.length != ExerciseTracker.NUMBER_OF_EXERCISES * 3) {
+            return false;
+        }
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            String status = parts[i * 3 + 2];
+            if (!parts[i * 3].equals("ex") || !parts[i * 3 + 1].equals(i + ":")
+                    || !status.equals("N") && !status.equals("D") && !status.equals("I") && !status.equals("O")) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path recordingPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to write a flight recording of the session to, or null if none should be made.
+     */
+    public Path getRecordingPath() {
+        return recordingPath;
+    }
+
+    public void setRecordingPath(Path recordingPath) {
+        this.recordingPath = recordingPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +53,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String recordingPathParameter = namedParameters.get("recording");
+        if (recordingPathParameter != null && !FileUtil.isValidPath(recordingPathParameter)) {
+            logger.warning("Invalid recording path " + recordingPathParameter + ". Not recording.");
+            recordingPathParameter = null;
+        }
+        appParameters.setRecordingPath(recordingPathParameter != null ? Paths.get(recordingPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +75,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(recordingPath, otherAppParameters.recordingPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, recordingPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("recordingPath", recordingPath)
                 .toString();
     }
 }
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,22 +12,24 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.FlightRecording;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonTimeslotsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -49,6 +52,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected FlightRecording flightRecording;
 
     @Override
     public void init() throws Exception {
@@ -58,12 +62,17 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        if (appParameters.getRecordingPath() != null) {
+            initFlightRecording(appParameters.getRecordingPath());
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        TimeslotsStorage timeslotsStorage = new JsonTimeslotsStorage(userPrefs.getTimeslotsFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, timeslotsStorage);
+        AddressBookStorage addressBookStorage =
+                StorageManager.createAddressBookStorage(userPrefs.getAddressBookFilePath());
+        TimeslotsStorage timeslotsStorage = StorageManager.createTimeslotsStorage(userPrefs.getTimeslotsFilePath());
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage, timeslotsStorage);
+        storage = storageManager;
 
         // Load timeslots first
         Timeslots initialTimeslots = initTimeslots(storage);
@@ -71,6 +80,9 @@ public class MainApp extends Application {
         // Initialize model manager with address book and timeslots
         model = initModelManager(storage, userPrefs, initialTimeslots);
 
+        // Once the data is loaded, save changes in the background so that commands never wait for the disk
+        storageManager.setWriteBehind(true);
+
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
@@ -79,9 +91,12 @@ public class MainApp extends Application {
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or an empty address book will be used instead, and the journal discarded, if errors occur when reading
+     * {@code storage}'s address book.
+     * Otherwise, the changes in {@code storage}'s journal are replayed on top of the address book and
+     * {@code timeslots}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, ReadOnlyTimeslots timeslots) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Timeslots timeslots) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -96,10 +111,55 @@ public class MainApp extends Application {
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            discardJournal(storage);
+            return new ModelManager(new AddressBook(), timeslots, userPrefs);
+        }
+
+        if (!addressBookOptional.isPresent()) {
+            return new ModelManager(initialData, timeslots, userPrefs);
+        }
+        AddressBook addressBook = new AddressBook(initialData);
+        replayJournal(storage, addressBook, timeslots);
+        return new ModelManager(addressBook, timeslots, userPrefs);
+    }
+
+    /**
+     * Empties {@code storage}'s journal, whose changes cannot be replayed without the data they were made to,
+     * so that the next save writes the data files in full instead of appending to the journal.
+     */
+    private void discardJournal(Storage storage) {
+        try {
+            storage.discardJournal();
+        } catch (IOException e) {
+            logger.warning("Failed to empty journal at " + storage.getJournalFilePath() + " : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Applies the changes recorded in {@code storage}'s journal to {@code addressBook} and {@code timeslots}.
+     * Changes that cannot be applied are skipped.
+     */
+    private void replayJournal(Storage storage, AddressBook addressBook, Timeslots timeslots) {
+        List<ModelChange> changes;
+        try {
+            changes = storage.readJournal();
+        } catch (DataLoadingException e) {
+            logger.warning("Journal at " + storage.getJournalFilePath() + " could not be loaded."
+                    + " Changes made since the data files were last written will be lost.");
+            return;
         }
 
-        return new ModelManager(initialData, timeslots, userPrefs);
+        if (!changes.isEmpty()) {
+            logger.info("Replaying " + changes.size() + " change(s) from journal " + storage.getJournalFilePath());
+        }
+        for (ModelChange change : changes) {
+            try {
+                change.applyTo(addressBook, timeslots);
+            } catch (IllegalArgumentException | DuplicatePersonException | PersonNotFoundException e) {
+                logger.warning("Skipping journal record that could not be applied: " + change + " : " + e);
+            }
+        }
     }
 
     /**
@@ -137,6 +197,19 @@ public class MainApp extends Application {
         return initialTimeslots;
     }
 
+    /**
+     * Starts a flight recording of the session that is written to {@code recordingPath} when the app stops.
+     * The app runs without one if the recording cannot be started.
+     */
+    private void initFlightRecording(Path recordingPath) {
+        try {
+            flightRecording = FlightRecording.start(recordingPath);
+            logger.info("Recording to " + recordingPath);
+        } catch (IOException | IllegalStateException | SecurityException e) {
+            logger.warning("Could not start recording to " + recordingPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -221,10 +294,24 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (model instanceof ModelManager) {
+            ModelManager modelManager = (ModelManager) model;
+            try {
+                storage.saveChanges(modelManager.takeChanges(), modelManager.getAddressBook(),
+                        modelManager.getTimeslots());
+                storage.compact(modelManager.getAddressBook(), modelManager.getTimeslots());
+            } catch (IOException e) {
+                logger.severe("Failed to compact journal " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (flightRecording != null) {
+            flightRecording.stop();
+            logger.info("Recording written to " + flightRecording.getDestination());
+        }
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by Java Flight Recorder for each parsed command, covering its execution on the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"LambdaLab", "Commands"})
+@Description("Execution of a parsed command on the model, excluding saving its changes")
+public class CommandExecuteEvent extends Event {
+
+    /** The result size recorded for commands that fail. */
+    public static final int FAILED = -1;
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Result Size")
+    @Description("Number of students in the displayed list after the command, or -1 if it failed")
+    private int resultSize;
+
+    /**
+     * Creates and begins an event for executing the command {@code commandWord}.
+     */
+    public static CommandExecuteEvent begin(String commandWord) {
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.commandWord = commandWord;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the {@code resultSize} the command left displayed, or {@link #FAILED}.
+     */
+    public void end(int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by Java Flight Recorder for each command the user enters, covering the parsing of the command.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"LambdaLab", "Commands"})
+@Description("Parsing of a command entered by the user")
+public class CommandParseEvent extends Event {
+
+    @Label("Command Word")
+    @Description("First word of the input")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    /**
+     * Creates and begins an event for parsing the input that starts with {@code commandWord}.
+     */
+    public static CommandParseEvent begin(String commandWord) {
+        CommandParseEvent event = new CommandParseEvent();
+        event.commandWord = commandWord;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, recording whether the input parsed.
+     */
+    public void end(boolean isSuccessful) {
+        end();
+        if (shouldCommit()) {
+            this.isSuccessful = isSuccessful;
+            commit();
+        }
+    }
+}
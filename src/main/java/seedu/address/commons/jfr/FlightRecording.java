@@ -0,0 +1,65 @@
+package seedu.address.commons.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A Java Flight Recorder recording of the JVM's built-in profiling events together with the app's own events in
+ * this package, written to a file when it is stopped or when the JVM exits.
+ * The file can be opened in JDK Mission Control or printed with {@code jfr print}.
+ */
+public class FlightRecording {
+
+    /** The built-in recording settings used, which sample method execution as well as recording the app's events. */
+    public static final String CONFIGURATION_NAME = "profile";
+
+    private final Recording recording;
+    private final Path destination;
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    /**
+     * Starts a recording that will be written to {@code destination}.
+     *
+     * @throws IOException if the recording could not be configured or the destination could not be written to.
+     */
+    public static FlightRecording start(Path destination) throws IOException {
+        requireNonNull(destination);
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(CONFIGURATION_NAME);
+        } catch (ParseException e) {
+            throw new IOException("Could not read the " + CONFIGURATION_NAME + " recording settings", e);
+        }
+        FileUtil.createParentDirsOfFile(destination);
+        Recording recording = new Recording(configuration);
+        recording.setName("LambdaLab");
+        recording.setDestination(destination);
+        // So that the recording is still written if the app exits without stopping it
+        recording.setDumpOnExit(true);
+        recording.start();
+        return new FlightRecording(recording, destination);
+    }
+
+    public Path getDestination() {
+        return destination;
+    }
+
+    /**
+     * Stops the recording and writes it to its destination.
+     */
+    public void stop() {
+        recording.stop();
+        recording.close();
+    }
+}
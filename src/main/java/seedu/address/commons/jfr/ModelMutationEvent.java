@@ -0,0 +1,54 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by Java Flight Recorder for mutations of the model's collections that touch many elements at once, or
+ * that may be frequent enough to matter, such as bulk replacements of the person list and timeslot changes.
+ */
+@Name("seedu.address.ModelMutation")
+@Label("Model Mutation")
+@Category({"LambdaLab", "Model"})
+@Description("Mutation of the person list or the timeslots")
+public class ModelMutationEvent extends Event {
+
+    public static final String PERSONS = "persons";
+    public static final String TIMESLOTS = "timeslots";
+
+    @Label("Collection")
+    @Description("Which collection was mutated, i.e. persons or timeslots")
+    private String collection;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Size")
+    @Description("Number of elements in the collection after the mutation")
+    private int size;
+
+    /**
+     * Creates and begins an event for the {@code operation} on {@code collection} about to be done.
+     */
+    public static ModelMutationEvent begin(String collection, String operation) {
+        ModelMutationEvent event = new ModelMutationEvent();
+        event.collection = collection;
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the collection's {@code size} after the mutation.
+     */
+    public void end(int size) {
+        end();
+        if (shouldCommit()) {
+            this.size = size;
+            commit();
+        }
+    }
+}
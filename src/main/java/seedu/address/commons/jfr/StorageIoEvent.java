@@ -0,0 +1,67 @@
+package seedu.address.commons.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by Java Flight Recorder for each read or write of a whole data file, and for each read, append or
+ * clear of the operation journal.
+ */
+@Name("seedu.address.StorageIo")
+@Label("Storage I/O")
+@Category({"LambdaLab", "Storage"})
+@Description("Read or write of a whole address book or timeslots data file, or access to the operation journal")
+public class StorageIoEvent extends Event {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String APPEND = "append";
+    public static final String CLEAR = "clear";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("File")
+    private String filePath;
+
+    @Label("Size")
+    @Description("Size of the file after the operation, or -1 if it could not be determined or no longer exists")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Creates and begins an event for the {@code operation} on {@code filePath} about to be done.
+     */
+    public static StorageIoEvent begin(String operation, Path filePath) {
+        StorageIoEvent event = new StorageIoEvent();
+        event.operation = operation;
+        event.filePath = filePath.toString();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the size of the file, if the recording wants it.
+     * The file is only looked up after the operation has been timed, and only if the event will be recorded.
+     */
+    public void end(Path filePath) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        try {
+            bytes = Files.size(filePath);
+        } catch (IOException e) {
+            bytes = -1;
+        }
+        commit();
+    }
+}
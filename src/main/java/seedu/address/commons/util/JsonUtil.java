@@ -3,18 +3,27 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,9 +31,13 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
+ *
+ * Files are read and written as streams, without holding their whole contents in a String, using readers and
+ * writers that are created once and reused.
  */
 public class JsonUtil {
 
@@ -39,13 +52,50 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * Writes JSON content token by token to a generator.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads JSON content token by token from a parser that has not yet been advanced to the first token.
+     */
+    @FunctionalInterface
+    public interface JsonContentReader<T> {
+        T readFrom(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, true);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isPrettyPrinted)
+            throws IOException {
+        // Jackson buffers its output itself, so the file stream needs no further buffering
+        try (OutputStream out = Files.newOutputStream(jsonFile)) {
+            (isPrettyPrinted ? prettyWriter : compactWriter).writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return getReader(classOfObjectToDeserialize).readValue(in);
+        }
+    }
+
+    /**
+     * Returns the shared reader for JSON data of type {@code type}.
+     */
+    public static ObjectReader getReader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
     }
 
     /**
@@ -78,17 +128,80 @@ public class JsonUtil {
     }
 
     /**
-     * Saves the Json object to the specified file.
+     * Returns the content read by {@code contentReader} from the given file, or {@code Optional.empty()} if the file
+     * is not found. The file is parsed as a stream, so only as much of it as {@code contentReader} keeps is held in
+     * memory at a time.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file could not be read or contained illegal values.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonContentReader<T> contentReader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(contentReader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = Files.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(contentReader.readFrom(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Saves the Json object to the specified file, pretty printed.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Saves the Json object to the specified file, pretty printed if {@code isPrettyPrinted} is true.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isPrettyPrinted);
+    }
+
+    /**
+     * Saves the content written by {@code contentWriter} to the specified file, pretty printed if
+     * {@code isPrettyPrinted} is true. The content is streamed to the file as it is written, so only what
+     * {@code contentWriter} is currently writing needs to be held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonFile(Path filePath, boolean isPrettyPrinted, JsonContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(contentWriter);
+
+        try (OutputStream out = Files.newOutputStream(filePath);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            contentWriter.writeTo(generator);
+        }
     }
 
 
@@ -98,7 +211,7 @@ public class JsonUtil {
      * @return The instance of T with the specified values in the JSON string
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
-        return objectMapper.readValue(json, instanceClass);
+        return getReader(instanceClass).readValue(json);
     }
 
     /**
@@ -108,7 +221,17 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into a single line of JSON, without pretty printing.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string with no line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
     }
 
     /**
@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts durations in nanoseconds in logarithmic buckets, so that percentiles can be estimated in constant memory.
+ *
+ * Each power of two is split into eight buckets, so an estimated percentile is at most an eighth above the true
+ * value. Durations above about 18 minutes are counted as 18 minutes. Recording is thread-safe and does not allocate.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_TRACKABLE_BITS = 40;
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_TRACKABLE_BITS) - 1;
+
+    private final long[] counts = new long[getBucketIndex(MAX_TRACKABLE_VALUE) + 1];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Counts one duration of {@code nanos} nanoseconds. Negative durations are counted as zero.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_VALUE);
+        counts[getBucketIndex(value)]++;
+        totalCount++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none have been recorded.
+     */
+    public synchronized double getMeanNanos() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    /**
+     * Returns an estimate of the duration that {@code percentile} percent of the recorded durations do not exceed,
+     * or 0 if none have been recorded.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100.");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Values below {@code SUB_BUCKETS} get a bucket each. Above that, a value whose highest set bit is bit {@code e}
+     * goes into one of the {@code SUB_BUCKETS} buckets for that bit, picked by the {@code SUB_BUCKET_BITS} bits below
+     * it.
+     */
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int highestBit = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long lowerBound = (1L << highestBit) | ((long) subBucket << (highestBit - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (highestBit - SUB_BUCKET_BITS)) - 1;
+    }
+}
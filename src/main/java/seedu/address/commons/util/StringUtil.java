@@ -38,6 +38,40 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code c} is an ASCII digit, i.e. is matched by the regex {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. is matched by the regex {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}, i.e. is a space, tab, line feed, vertical tab,
+     * form feed or carriage return.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns the index of the first character of {@code s} from {@code from} onwards that is not matched by the
+     * regex {@code \s}, or {@code to} if every character before {@code to} is.
+     */
+    public static int skipWhitespace(String s, int from, int to) {
+        int index = from;
+        while (index < to && isRegexWhitespace(s.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
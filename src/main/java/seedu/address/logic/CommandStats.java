@@ -0,0 +1,108 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LatencyHistogram;
+
+/**
+ * Keeps a latency histogram for each phase of executing each command word, so that slow commands can be diagnosed
+ * from a running app. Recording is thread-safe.
+ */
+public class CommandStats {
+
+    /** The key that the parsing of input which failed to parse is recorded under, as it may not name a command. */
+    public static final String INVALID_INPUT = "(invalid input)";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+    public static final String REPORT_HEADER = "Command latencies in ms (p50 / p95 / p99):";
+
+    /**
+     * The phases of executing a command that are timed separately.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        SAVE("save"),
+        /**
+         * From handing a result to the JavaFX application thread until that thread starts on it. Recorded for results
+         * shown in the timetable window and a sample of the others.
+         */
+        UI_HAND_OFF("ui hand-off"),
+        /** Parsing, executing and saving together, i.e. how long the user waits for a result. */
+        TOTAL("total");
+
+        private final String displayName;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    // Sorted by command word so that reports list commands in a stable order
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+
+    /**
+     * Records that {@code phase} of executing the command {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        getHistogram(commandWord, phase).record(nanos);
+    }
+
+    /**
+     * Returns the histogram for {@code phase} of {@code commandWord}, creating an empty one if there is none yet.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        synchronized (histograms) {
+            return histograms.computeIfAbsent(commandWord, word -> new EnumMap<>(Phase.class))
+                    .computeIfAbsent(phase, p -> new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Returns a table of the percentiles and counts of every phase recorded so far, grouped by command word.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        synchronized (histograms) {
+            for (Map.Entry<String, Map<Phase, LatencyHistogram>> command : histograms.entrySet()) {
+                report.append('\n').append(command.getKey());
+                for (Map.Entry<Phase, LatencyHistogram> phase : command.getValue().entrySet()) {
+                    LatencyHistogram histogram = phase.getValue();
+                    report.append(String.format("\n  %-12s %s / %s / %s (max %s), count %d",
+                            phase.getKey(), toMillis(histogram.getPercentileNanos(50)),
+                            toMillis(histogram.getPercentileNanos(95)), toMillis(histogram.getPercentileNanos(99)),
+                            toMillis(histogram.getMaxNanos()), histogram.getCount()));
+                }
+            }
+        }
+        return report.length() == 0 ? MESSAGE_NO_COMMANDS : REPORT_HEADER + report;
+    }
+
+    /**
+     * Writes {@link #getReport()} to {@code filePath}, replacing any existing file.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void writeReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, getReport() + System.lineSeparator());
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+}
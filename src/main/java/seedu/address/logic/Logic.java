@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,6 +26,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message whenever saving data in the background fails.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -39,6 +47,13 @@ public interface Logic {
      */
     Week getCurrentWeek();
 
+    /**
+     * Returns the class-wide statistics of the students.
+     *
+     * @see seedu.address.model.Model#getClassStatistics()
+     */
+    ClassStatistics getClassStatistics();
+
     /**
      * Returns the user prefs' address book file path.
      */
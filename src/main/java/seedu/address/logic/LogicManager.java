@@ -5,12 +5,17 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
+import seedu.address.logic.CommandStats.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -20,6 +25,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
 import seedu.address.model.timeslot.Timeslot;
 import seedu.address.storage.Storage;
@@ -35,11 +41,22 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file due to permission issues: %s";
 
+    /** Commands that take at least this long, in nanoseconds, have their timings logged as a warning. */
+    public static final long SLOW_COMMAND_THRESHOLD_NANOS = 200_000_000;
+
+    /**
+     * One in this many results that need nothing from the JavaFX application thread is still handed to it, so that
+     * the hand-off is timed without queueing a task for every command.
+     */
+    public static final int UI_HAND_OFF_SAMPLE_INTERVAL = 16;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandStats commandStats = new CommandStats();
+    private int resultsSinceHandOffSample;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -47,59 +64,147 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(commandStats);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = getCommandWord(commandText);
+        CommandParseEvent parseEvent = CommandParseEvent.begin(commandWord);
+        long parseStart = System.nanoTime();
+        Command command;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            String msg = String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
-            throw new CommandException(msg, e);
-        } catch (IOException ioe) {
-            String msg = String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
-            throw new CommandException(msg, ioe);
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            commandStats.record(CommandStats.INVALID_INPUT, Phase.PARSE, System.nanoTime() - parseStart);
+            parseEvent.end(false);
+            throw pe;
         }
+        long executeStart = System.nanoTime();
+        commandStats.record(commandWord, Phase.PARSE, executeStart - parseStart);
+        parseEvent.end(true);
 
-        // Persist timeslots if model supports it
+        CommandExecuteEvent executeEvent = CommandExecuteEvent.begin(commandWord);
+        CommandResult commandResult;
+        long saveStart;
+        long end;
         try {
-            if (model instanceof ModelManager) {
-                storage.saveTimeslots(((ModelManager) model).getTimeslots());
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                executeEvent.end(CommandExecuteEvent.FAILED);
+                throw e;
+            } finally {
+                // Commands that fail are timed too, as a slow failure keeps the user waiting just as long
+                saveStart = System.nanoTime();
+                commandStats.record(commandWord, Phase.EXECUTE, saveStart - executeStart);
             }
-        } catch (AccessDeniedException e) {
-            // wrap as CommandException with permission detail
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
-        /*
-         * If the command produced timeslot ranges payload, show the UI window here (on the JavaFX thread).
-         * We catch IllegalStateException in case JavaFX toolkit is not initialized (e.g., during some tests).
-         */
-        if (commandResult.getTimeslotRanges() != null && !commandResult.getTimeslotRanges().isEmpty()) {
+            executeEvent.end(model.getFilteredPersonList().size());
             try {
                 if (model instanceof ModelManager) {
-                    List<Timeslot> allTimeslots = ((ModelManager) model).getTimeslots().getTimeslotList();
-                    Platform.runLater(() -> TimeslotsWindow.showTimetable(commandResult.getTimeslotRanges(),
-                                                                         allTimeslots));
+                    // Only what the command changed is written, usually as a few records appended to the journal
+                    ModelManager modelManager = (ModelManager) model;
+                    storage.saveChanges(modelManager.takeChanges(), modelManager.getAddressBook(),
+                            modelManager.getTimeslots());
                 } else {
-                    Platform.runLater(() -> TimeslotsWindow.showTimetable(commandResult.getTimeslotRanges(),
-                            Collections.emptyList()));
+                    storage.saveAddressBook(model.getAddressBook());
                 }
-            } catch (IllegalStateException e) {
-                // JavaFX not initialized; ignore UI launch, command result still returned.
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            } finally {
+                end = System.nanoTime();
+                commandStats.record(commandWord, Phase.SAVE, end - saveStart);
             }
+        } finally {
+            commandStats.record(commandWord, Phase.TOTAL, System.nanoTime() - parseStart);
         }
+        logTimings(commandWord, executeStart - parseStart, saveStart - executeStart, end - saveStart);
 
+        handOffToUi(commandWord, commandResult);
         return commandResult;
     }
 
+    /**
+     * Shows the timeslot ranges of {@code commandResult}, if any, in the timetable window on the JavaFX application
+     * thread, and records how long that thread takes to start on it, which includes the time the UI spends showing
+     * the result. Results without timeslot ranges are only handed over to be timed once in every
+     * {@link #UI_HAND_OFF_SAMPLE_INTERVAL}.
+     * We catch IllegalStateException in case JavaFX toolkit is not initialized (e.g., during some tests).
+     */
+    private void handOffToUi(String commandWord, CommandResult commandResult) {
+        boolean hasTimeslotRanges = commandResult.getTimeslotRanges() != null
+                && !commandResult.getTimeslotRanges().isEmpty();
+        resultsSinceHandOffSample++;
+        if (!hasTimeslotRanges && resultsSinceHandOffSample < UI_HAND_OFF_SAMPLE_INTERVAL) {
+            return;
+        }
+        resultsSinceHandOffSample = 0;
+        List<Timeslot> allTimeslots = hasTimeslotRanges && model instanceof ModelManager
+                ? ((ModelManager) model).getTimeslots().getTimeslotList()
+                : Collections.emptyList();
+        long handOffStart = System.nanoTime();
+        try {
+            Platform.runLater(() -> {
+                commandStats.record(commandWord, Phase.UI_HAND_OFF, System.nanoTime() - handOffStart);
+                if (hasTimeslotRanges) {
+                    TimeslotsWindow.showTimetable(commandResult.getTimeslotRanges(), allTimeslots);
+                }
+            });
+        } catch (IllegalStateException e) {
+            // JavaFX not initialized; ignore UI hand-off, command result still returned.
+        }
+    }
+
+    /**
+     * Returns the first word of {@code commandText}, or an empty string if it is blank.
+     */
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return trimmedText.substring(0, end);
+    }
+
+    /**
+     * Logs how long each phase of a command took, as a warning if the command took long enough for the user to
+     * notice.
+     */
+    private void logTimings(String commandWord, long parseNanos, long executeNanos, long saveNanos) {
+        long totalNanos = parseNanos + executeNanos + saveNanos;
+        Supplier<String> timings = () -> String.format("%s took %.3f ms (parse %.3f ms, execute %.3f ms, save %.3f ms)",
+                commandWord, totalNanos / 1e6, parseNanos / 1e6, executeNanos / 1e6, saveNanos / 1e6);
+        if (totalNanos >= SLOW_COMMAND_THRESHOLD_NANOS) {
+            logger.warning(timings);
+        } else {
+            logger.fine(timings);
+        }
+    }
+
+    /**
+     * Returns the timings of the commands executed so far.
+     */
+    public CommandStats getCommandStats() {
+        return commandStats;
+    }
+
+    /**
+     * Returns the message shown to the user when saving fails with {@code ioe}.
+     */
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        storage.setWriteErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -114,6 +219,11 @@ public class LogicManager implements Logic {
         return model.getCurrentWeek();
     }
 
+    @Override
+    public ClassStatistics getClassStatistics() {
+        return model.getClassStatistics();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -51,27 +52,18 @@ public class AddConsultationCommand extends Command {
         ModelManager mm = (ModelManager) model;
 
         // Reject identical-interval duplicate consultation OR any overlapping timeslot.
-        for (Timeslot existing : mm.getTimeslots().getTimeslotList()) {
+        // Stored timeslots never overlap each other, so an identical interval can only be the sole overlap.
+        List<Timeslot> overlapping = mm.getTimeslots().getOverlappingTimeslots(toAdd);
+        if (!overlapping.isEmpty()) {
+            Timeslot existing = overlapping.get(0);
             boolean sameInterval = existing.getStart().equals(toAdd.getStart())
                     && existing.getEnd().equals(toAdd.getEnd());
-            if (sameInterval) {
-                if (existing instanceof ConsultationTimeslot) {
-                    ConsultationTimeslot c = (ConsultationTimeslot) existing;
-                    if (toAdd.getStudentName().equals(c.getStudentName())) {
-                        throw new CommandException(MESSAGE_DUPLICATE_CONSULTATION);
-                    } else {
-                        // Another consultation exists at same time with different student -> collision
-                        throw new CommandException(MESSAGE_DUPLICATE_TIMESLOT);
-                    }
-                } else {
-                    // Existing generic timeslot at same time -> cannot add consultation
-                    throw new CommandException(MESSAGE_DUPLICATE_TIMESLOT);
-                }
-            }
-            // General overlap check: deny any partial/full overlap with existing timeslot
-            if (overlaps(existing, toAdd)) {
-                throw new CommandException(MESSAGE_DUPLICATE_TIMESLOT);
+            if (sameInterval && existing instanceof ConsultationTimeslot
+                    && toAdd.getStudentName().equals(existing.getStudentName())) {
+                throw new CommandException(MESSAGE_DUPLICATE_CONSULTATION);
             }
+            // Another consultation or a generic timeslot already occupies (part of) this time -> collision
+            throw new CommandException(MESSAGE_DUPLICATE_TIMESLOT);
         }
 
         // persist previous state for undo
@@ -86,13 +78,6 @@ public class AddConsultationCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, timeslotStr, toAdd.getStudentName()));
     }
 
-    /**
-     * Two timeslots overlap if their intervals intersect (end > start and start < end).
-     */
-    private static boolean overlaps(Timeslot a, Timeslot b) {
-        return a.getEnd().isAfter(b.getStart()) && a.getStart().isBefore(b.getEnd());
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
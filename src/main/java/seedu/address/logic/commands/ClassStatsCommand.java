@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.LabList;
+
+/**
+ * Shows class-wide statistics: the completion rate of each exercise, the attendance of each lab, the pass rate of
+ * each exam and the number of overdue exercises. The statistics are kept up to date by the model, so this does not
+ * go through the students.
+ */
+public class ClassStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats-class";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the completion rate of each exercise, "
+            + "the attendance of each lab, the pass rate of each exam and the number of overdue exercises "
+            + "of the whole class.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Class statistics of %1$d students in week %2$d:";
+    public static final String MESSAGE_EXERCISES = "Exercises done: %1$s";
+    public static final String MESSAGE_OVERDUE = "Overdue exercises: %1$d";
+    public static final String MESSAGE_LABS = "Labs attended (absent): %1$s";
+    public static final String MESSAGE_LABS_ATTENDED = "Students by number of labs attended: %1$s";
+    public static final String MESSAGE_EXAMS = "Exams passed (of graded): %1$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ClassStatistics statistics = model.getClassStatistics();
+        Week currentWeek = model.getCurrentWeek();
+        int personCount = statistics.getPersonCount();
+
+        List<String> exercises = new ArrayList<>();
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            exercises.add(String.format("EX%d %d (%d%%)", i, statistics.getDoneCount(i),
+                    statistics.getCompletionRate(i)));
+        }
+        List<String> labs = new ArrayList<>();
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            labs.add(String.format("L%d %d (%d)", i + 1, statistics.getAttendedCount(i),
+                    statistics.getAbsentCount(i, currentWeek)));
+        }
+        List<String> labsAttended = new ArrayList<>();
+        for (int labCount = 0; labCount <= LabList.NUMBER_OF_LABS; labCount++) {
+            labsAttended.add(labCount + ": " + statistics.getCountByLabsAttended(labCount));
+        }
+        List<String> exams = new ArrayList<>();
+        for (String examName : GradeMap.VALID_EXAM_NAMES) {
+            exams.add(String.format("%s %d/%d (%d%%)", examName.toUpperCase(), statistics.getPassedCount(examName),
+                    statistics.getGradedCount(examName), statistics.getPassRate(examName)));
+        }
+
+        String message = String.join("\n",
+                String.format(MESSAGE_SUCCESS, personCount, currentWeek.getWeekNumber()),
+                String.format(MESSAGE_EXERCISES, String.join(", ", exercises)),
+                String.format(MESSAGE_OVERDUE, statistics.getTotalOverdueCount(currentWeek)),
+                String.format(MESSAGE_LABS, String.join(", ", labs)),
+                String.format(MESSAGE_LABS_ATTENDED, String.join(", ", labsAttended)),
+                String.format(MESSAGE_EXAMS, String.join(", ", exams)));
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ClassStatsCommand;
+    }
+}
@@ -45,13 +45,7 @@ public class GetConsultationsCommand extends Command {
         }
         ReadOnlyTimeslots roTimeslots = ((ModelManager) model).getTimeslots();
 
-        // Filter only ConsultationTimeslot entries
-        List<Timeslot> list = new ArrayList<>(roTimeslots.getTimeslotList().stream()
-                .filter(t -> t instanceof ConsultationTimeslot)
-                .collect(Collectors.toList()));
-        list.sort(Comparator.comparing(Timeslot::getStart));
-
-        ArrayList<LocalDateTime[]> merged = GetTimeslotCommand.mergeOverlappingTimeslots(list);
+        List<LocalDateTime[]> merged = roTimeslots.getMergedConsultationRanges();
 
         // Build human-readable lines for feedback
         StringBuilder sb = new StringBuilder();
@@ -44,10 +44,7 @@ public class GetTimeslotCommand extends Command {
         }
         ReadOnlyTimeslots roTimeslots = ((ModelManager) model).getTimeslots();
 
-        List<Timeslot> list = new ArrayList<>(roTimeslots.getTimeslotList());
-        list.sort(Comparator.comparing(Timeslot::getStart));
-
-        ArrayList<LocalDateTime[]> merged = mergeOverlappingTimeslots(list);
+        List<LocalDateTime[]> merged = roTimeslots.getMergedTimeslotRanges();
 
         // Build human-readable lines for feedback
         StringBuilder sb = new StringBuilder();
@@ -103,48 +100,6 @@ public class GetTimeslotCommand extends Command {
         return result;
     }
 
-    /**
-     * Merges overlapping timeslots from a sorted list into continuous time ranges.
-     * <p>Assumes the given list contains only {@link Timeslot} objects, sorted by start time.</p>
-     *
-     * @param sorted List of timeslots sorted by start time.
-     * @return List of merged time ranges as {@code LocalDateTime[]} pairs: [start, end].
-     */
-    public static ArrayList<LocalDateTime[]> mergeOverlappingTimeslots(List<Timeslot> sorted) {
-        ArrayList<LocalDateTime[]> merged = new ArrayList<>();
-        int n = sorted == null ? 0 : sorted.size();
-
-        for (int i = 0; i < n; i++) {
-            Timeslot current = sorted.get(i);
-            LocalDateTime start = current.getStart();
-            LocalDateTime end = current.getEnd();
-
-            // If current interval is already fully covered by last merged interval, skip.
-            if (!merged.isEmpty()) {
-                LocalDateTime lastEnd = merged.get(merged.size() - 1)[1];
-                if (!lastEnd.isBefore(end)) { // lastEnd >= end
-                    continue;
-                }
-            }
-
-            // Extend the interval with overlapping timeslots
-            for (int j = i + 1; j < n; j++) {
-                Timeslot next = sorted.get(j);
-                if (next.getStart().isAfter(end)) {
-                    break; // no overlap
-                }
-                // overlap exists; extend end if needed
-                if (next.getEnd().isAfter(end)) {
-                    end = next.getEnd();
-                }
-            }
-
-            merged.add(new LocalDateTime[]{start, end});
-        }
-
-        return merged;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this || other instanceof GetTimeslotCommand;
@@ -63,7 +63,7 @@ public class GradeCommand extends MultiIndexCommand {
             } else {
                 updatedGradeMap.markExamFailed(examName);
             }
-            if (updatedGradeMap.getExamMap().get(examName) == null) {
+            if (!updatedGradeMap.hasExamResult(examName, isPassed)) {
                 throw new AssertionError("Updated GradeMap should contain the graded exam");
             }
         } catch (InvalidExamNameException e) {
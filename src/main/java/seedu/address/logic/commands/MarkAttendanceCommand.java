@@ -13,7 +13,6 @@ import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.LabAttendanceList;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
 
 /**
@@ -61,8 +60,7 @@ public class MarkAttendanceCommand extends MultiIndexCommand {
 
     @Override
     protected Person applyActionToPerson(Model model, Person personToEdit) throws CommandException {
-        LabAttendanceList labAttendanceList = ((LabList) personToEdit.getLabAttendanceList())
-                .copy();
+        LabAttendanceList labAttendanceList = personToEdit.getLabAttendanceList().copy();
 
         try {
             if (isAttended) {
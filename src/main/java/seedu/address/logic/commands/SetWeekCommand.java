@@ -4,18 +4,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Week;
-import seedu.address.model.person.ExerciseTracker;
-import seedu.address.model.person.LabList;
-import seedu.address.model.person.Person;
 
 /**
  * Sets the current week number for the semester.
- * Updates all students' lab attendance to reflect which labs are now past.
+ * Lab attendance and exercise statuses of all students are evaluated against the new week from then on.
  */
 public class SetWeekCommand extends Command {
     public static final String COMMAND_WORD = "set-week";
@@ -42,38 +37,12 @@ public class SetWeekCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         model.saveAddressBook(); // Save current state BEFORE making changes for undo functionality
 
+        // Lab and exercise statuses are derived from the model's week when read, so no person is rebuilt here.
         model.setCurrentWeek(currentWeek);
-        int currentWeekNumber = currentWeek.getWeekNumber();
-
-        LabList.setCurrentWeek(currentWeekNumber);
-        ExerciseTracker.setCurrentWeek(currentWeekNumber);
-
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int updatedCount = 0;
-
-        for (Person person : allPersons) {
-            LabList oldLabList = (LabList) person.getLabAttendanceList();
-            LabList updatedLabList = oldLabList.copy();
-            ExerciseTracker exerciseTracker = person.getExerciseTracker();
-            ExerciseTracker updatedExerciseTracker = exerciseTracker.copy();
-            Person updatedPerson = new Person(
-                    person.getStudentId(),
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getTags(),
-                    person.getGithubUsername(),
-                    updatedExerciseTracker,
-                    updatedLabList, // New LabList with updated weeks
-                    person.getGradeMap()
-            );
-            model.setPerson(person, updatedPerson);
-            updatedCount++;
-        }
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, currentWeekNumber, updatedCount));
+        int updatedCount = model.getAddressBook().getPersonList().size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, currentWeek.getWeekNumber(), updatedCount));
     }
 
     @Override
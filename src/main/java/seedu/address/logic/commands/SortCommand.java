@@ -34,7 +34,7 @@ public class SortCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.sortPersonList(sortCriterion.getComparator());
+        model.sortPersonList(sortCriterion);
         return new CommandResult(
                 String.format(MESSAGE_SUCCESS, sortCriterion.getDisplayString()));
     }
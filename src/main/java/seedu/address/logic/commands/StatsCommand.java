@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of every command executed so far has taken, and optionally writes it to a file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the 50th, 95th and 99th percentile times "
+            + "taken to parse, execute and save each command since the app started.\n"
+            + "Parameters: [" + PREFIX_FILE + "FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "stats.txt";
+
+    public static final String MESSAGE_WRITTEN = "Command latencies written to %1$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write command latencies to %1$s: %2$s";
+
+    private final CommandStats commandStats;
+    private final Optional<Path> reportFilePath;
+
+    /**
+     * Creates a {@code StatsCommand} that reports {@code commandStats}, writing the report to
+     * {@code reportFilePath} if it is present.
+     */
+    public StatsCommand(CommandStats commandStats, Optional<Path> reportFilePath) {
+        requireNonNull(commandStats);
+        requireNonNull(reportFilePath);
+        this.commandStats = commandStats;
+        this.reportFilePath = reportFilePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (reportFilePath.isEmpty()) {
+            return new CommandResult(commandStats.getReport());
+        }
+        Path filePath = reportFilePath.get();
+        try {
+            commandStats.writeReport(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_WRITTEN, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherCommand = (StatsCommand) other;
+        return commandStats == otherCommand.commandStats
+                && reportFilePath.equals(otherCommand.reportFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("reportFilePath", reportFilePath.orElse(null))
+                .toString();
+    }
+}
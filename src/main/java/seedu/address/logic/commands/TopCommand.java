@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.StudentIdInSetPredicate;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+
+/**
+ * Lists the students that come first, or with {@code bottom}, last when sorted by a criterion, ranked in the result
+ * message. The order of the student list is left as it is.
+ */
+public class TopCommand extends Command {
+
+    public static final String COMMAND_WORD = "top";
+    public static final String BOTTOM_COMMAND_WORD = "bottom";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ", " + BOTTOM_COMMAND_WORD
+            + ": Lists the given number or percentage of students that come first (" + COMMAND_WORD + ") or last ("
+            + BOTTOM_COMMAND_WORD + ") when sorted by the specified criterion, without sorting the student list\n"
+            + "Parameters: COUNT|PERCENT% " + PREFIX_SORT_CRITERION
+            + "SORTCRITERION (must be one of 'name', 'id', 'lab', 'ex')\n"
+            + "Example: " + BOTTOM_COMMAND_WORD + " 20 " + PREFIX_SORT_CRITERION + "lab";
+
+    public static final String MESSAGE_SUCCESS = "Listed the %1$d students that come %2$s by %3$s:";
+
+    private final SortCriterion sortCriterion;
+    private final int amount;
+    private final boolean isPercentage;
+    private final boolean isBottom;
+
+    /**
+     * @param sortCriterion the criterion the students are ranked by
+     * @param amount the number of students to list, or the percentage of students if {@code isPercentage}
+     * @param isPercentage true if {@code amount} is a percentage from 1 to 100
+     * @param isBottom true to list the students that come last instead of first
+     */
+    public TopCommand(SortCriterion sortCriterion, int amount, boolean isPercentage, boolean isBottom) {
+        requireNonNull(sortCriterion);
+        checkArgument(amount > 0 && (!isPercentage || amount <= 100));
+
+        this.sortCriterion = sortCriterion;
+        this.amount = amount;
+        this.isPercentage = isPercentage;
+        this.isBottom = isBottom;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int count = amount;
+        if (isPercentage) {
+            // Rounded up, so that any percentage of a non-empty list lists at least one student
+            count = (int) ((model.getAddressBook().getPersonList().size() * (long) amount + 99) / 100);
+        }
+        List<Person> ranked = model.getRankedPersons(sortCriterion, count, isBottom);
+        Set<StudentId> studentIds =
+                ranked.stream().map(Person::getStudentId).collect(Collectors.toSet());
+        model.updateFilteredPersonList(new StudentIdInSetPredicate(studentIds));
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, ranked.size(),
+                isBottom ? "last" : "first", sortCriterion.getDisplayString()));
+        for (int i = 0; i < ranked.size(); i++) {
+            Person person = ranked.get(i);
+            message.append(String.format("\n%d. %s (%s)", i + 1, person.getName(), person.getStudentId()));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TopCommand)) {
+            return false;
+        }
+
+        TopCommand otherCommand = (TopCommand) other;
+        return sortCriterion.equals(otherCommand.sortCriterion)
+                && amount == otherCommand.amount
+                && isPercentage == otherCommand.isPercentage
+                && isBottom == otherCommand.isBottom;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortCriterion", sortCriterion)
+                .add("amount", amount)
+                .add("isPercentage", isPercentage)
+                .add("isBottom", isBottom)
+                .toString();
+    }
+}
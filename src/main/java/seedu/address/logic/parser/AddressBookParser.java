@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -8,9 +9,11 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandStats;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddConsultationCommand;
 import seedu.address.logic.commands.BlockTimeslotCommand;
+import seedu.address.logic.commands.ClassStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearTimeslotsCommand;
 import seedu.address.logic.commands.Command;
@@ -28,6 +31,8 @@ import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkExerciseCommand;
 import seedu.address.logic.commands.SetWeekCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
 import seedu.address.logic.commands.UnblockTimeslotCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -43,6 +48,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandStats commandStats;
+
+    /**
+     * Creates a parser whose {@code stats} commands report the timings of the commands it parses itself.
+     */
+    public AddressBookParser() {
+        this(new CommandStats());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} commands report {@code commandStats}.
+     */
+    public AddressBookParser(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -129,6 +151,18 @@ public class AddressBookParser {
         case SetWeekCommand.COMMAND_WORD:
             return new SetWeekCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser(commandStats).parse(arguments);
+
+        case ClassStatsCommand.COMMAND_WORD:
+            return new ClassStatsCommand();
+
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser(false).parse(arguments);
+
+        case TopCommand.BOTTOM_COMMAND_WORD:
+            return new TopCommandParser(true).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
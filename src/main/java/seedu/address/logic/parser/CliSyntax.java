@@ -25,4 +25,7 @@ public class CliSyntax {
     // Filter prefixes
     public static final Prefix PREFIX_LAB_ATTENDANCE = new Prefix("la/");
 
+    // Stats prefixes
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
+
 }
@@ -23,13 +23,12 @@ import seedu.address.logic.helpers.ExerciseIndexStatus;
 import seedu.address.logic.helpers.LabAttendanceComparison;
 import seedu.address.logic.helpers.LabIndexStatus;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.CompactLabList;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Examination;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.GradeMap;
-import seedu.address.model.person.Lab;
-import seedu.address.model.person.LabAttendance;
 import seedu.address.model.person.LabAttendanceList;
 import seedu.address.model.person.LabList;
 import seedu.address.model.person.Name;
@@ -287,18 +286,17 @@ public class ParserUtil {
             throw new ParseException(LabList.MESSAGE_CONSTRAINTS);
         }
 
-        LabAttendance[] labs = new LabAttendance[LabList.NUMBER_OF_LABS];
+        int attendedMask = 0;
         String[] parts = trimmed.split("\\s+");
 
-        for (int i = 0; i < labs.length; i++) {
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
             String status = parts[i * 2 + 1];
 
-            labs[i] = new Lab(i + 1, LabList.getCurrentWeek());
             if (status.equals("Y")) {
-                labs[i].markAsAttended();
+                attendedMask |= 1 << i;
             }
         }
-        return new LabList(labs);
+        return new CompactLabList(attendedMask);
     }
     /**
      * Parses a {@code String exerciseTrackerString} into an {@code ExerciseTracker}.
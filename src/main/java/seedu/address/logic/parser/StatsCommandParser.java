@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code StatsCommand} object that reports the given {@code CommandStats}.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "The file path given is not valid.";
+
+    private final CommandStats commandStats;
+
+    public StatsCommandParser(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code StatsCommand}
+     * and returns a {@code StatsCommand} object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+
+        Optional<String> filePath = argMultimap.getValue(PREFIX_FILE);
+        if (filePath.isEmpty()) {
+            return new StatsCommand(commandStats, Optional.empty());
+        }
+        String trimmedPath = filePath.get().trim();
+        if (trimmedPath.isEmpty() || !FileUtil.isValidPath(trimmedPath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        Path reportFilePath = Paths.get(trimmedPath);
+        return new StatsCommand(commandStats, Optional.of(reportFilePath));
+    }
+}
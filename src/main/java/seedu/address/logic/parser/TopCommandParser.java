@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+
+/**
+ * Parses input arguments and creates a new {@code TopCommand} object for {@code top} or {@code bottom}.
+ */
+public class TopCommandParser implements Parser<TopCommand> {
+
+    public static final String MESSAGE_INVALID_AMOUNT =
+            "The number of students must be a positive whole number, or a percentage from 1% to 100%";
+
+    private final boolean isBottom;
+
+    /**
+     * Creates a parser for {@code bottom} if {@code isBottom}, and for {@code top} otherwise.
+     */
+    public TopCommandParser(boolean isBottom) {
+        this.isBottom = isBottom;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code TopCommand}
+     * and returns a {@code TopCommand} object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public TopCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT_CRITERION);
+
+        String amountString = argMultimap.getPreamble().trim();
+        if (amountString.isEmpty() || argMultimap.getValue(PREFIX_SORT_CRITERION).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SORT_CRITERION);
+
+        boolean isPercentage = amountString.endsWith("%");
+        if (isPercentage) {
+            amountString = amountString.substring(0, amountString.length() - 1);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(amountString)
+                || (isPercentage && Integer.parseInt(amountString) > 100)) {
+            throw new ParseException(MESSAGE_INVALID_AMOUNT);
+        }
+
+        SortCriterion sortCriterion = ParserUtil.parseSortCriterion(argMultimap.getValue(PREFIX_SORT_CRITERION).get());
+        return new TopCommand(sortCriterion, Integer.parseInt(amountString), isPercentage, isBottom);
+    }
+}
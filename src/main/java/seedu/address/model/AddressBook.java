@@ -2,13 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.sortcriterion.SortCriterion;
 
 /**
  * Wraps all data at the address-book level
@@ -45,7 +49,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons; this is checked in a single pass, so this is also the
+     * preferred way to load a whole roster at once.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if {@code persons} has duplicates.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
@@ -71,6 +78,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given student ID, if any.
+     */
+    public Optional<Person> getPerson(StudentId studentId) {
+        return persons.get(studentId);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -100,18 +114,36 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Sorts the person list using the given comparator.
+     * Sorts the person list by the given criterion.
+     */
+    public void sortPersons(SortCriterion sortCriterion) {
+        requireNonNull(sortCriterion);
+        persons.sort(sortCriterion);
+    }
+
+    /**
+     * Returns the first {@code count} persons when sorted by the given criterion, or the last {@code count} from the
+     * end if {@code isFromBottom}, without reordering the person list.
      */
-    public void sortPersons(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        persons.sort(comparator);
+    public List<Person> getRankedPersons(SortCriterion sortCriterion, int count, boolean isFromBottom) {
+        requireNonNull(sortCriterion);
+        return persons.getRanked(sortCriterion, count, isFromBottom);
     }
 
     //// week-level operations
 
+    /**
+     * Sets the current week of the semester.
+     * Week-relative statuses such as overdue exercises and absent labs are derived from this value when they are
+     * read, so no person needs to be rebuilt; listeners of the person list receive a single refresh instead.
+     */
     public void setCurrentWeek(Week currentWeek) {
         requireNonNull(currentWeek);
+        boolean isChanged = !currentWeek.equals(this.currentWeek);
         this.currentWeek = currentWeek;
+        if (isChanged) {
+            persons.refresh();
+        }
     }
 
     public Week getCurrentWeek() {
@@ -133,6 +165,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a number that changes whenever the persons in this address book, or anything their statuses are derived
+     * from, change.
+     */
+    public long getVersion() {
+        return persons.getSearchIndex().getVersion();
+    }
+
+    /**
+     * Returns the index for finding persons in this address book by keyword.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns the class-wide statistics of the persons in this address book, which are kept up to date as persons
+     * are added, edited and removed.
+     */
+    public ClassStatistics getClassStatistics() {
+        return persons.getStatistics();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.sortcriterion.SortCriterion;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -103,10 +105,23 @@ public interface Model {
     void undoAddressBook();
 
     /**
-     * Sorts the person list using the given comparator.
-     * @throws NullPointerException if {@code comparator} is null.
+     * Sorts the person list by the given criterion.
+     * @throws NullPointerException if {@code sortCriterion} is null.
      */
-    void sortPersonList(Comparator<Person> comparator);
+    void sortPersonList(SortCriterion sortCriterion);
+
+    /**
+     * Returns the first {@code count} persons when sorted by the given criterion, or the last {@code count} from the
+     * end if {@code isFromBottom}, without reordering the person list.
+     * @throws NullPointerException if {@code sortCriterion} is null.
+     */
+    List<Person> getRankedPersons(SortCriterion sortCriterion, int count, boolean isFromBottom);
+
+    /**
+     * Returns the class-wide statistics of the address book, which are kept up to date as persons change and can be
+     * read in constant time.
+     */
+    ClassStatistics getClassStatistics();
 
     // ===== Timeslots-related APIs =====
     /**
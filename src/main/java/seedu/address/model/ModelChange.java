@@ -0,0 +1,228 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Represents a single mutation made to the model, in a form compact enough to be journaled and replayed.
+ *
+ * Replaying a change sets the affected data to the value it had right after the change, rather than applying a
+ * delta, so replaying a sequence of changes onto data that already contains some of them has no further effect.
+ * Reset changes only signal that the address book or the timeslots were replaced wholesale and cannot be replayed.
+ */
+public final class ModelChange {
+
+    /**
+     * The kinds of mutation that can be recorded.
+     */
+    public enum Kind {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON, SET_WEEK, RESET_ADDRESS_BOOK,
+        ADD_TIMESLOT, REMOVE_TIMESLOT, CLEAR_TIMESLOTS, RESET_TIMESLOTS
+    }
+
+    private static final ModelChange CLEAR_TIMESLOTS = new ModelChange(Kind.CLEAR_TIMESLOTS, null, null, null, null);
+    private static final ModelChange RESET_ADDRESS_BOOK =
+            new ModelChange(Kind.RESET_ADDRESS_BOOK, null, null, null, null);
+    private static final ModelChange RESET_TIMESLOTS = new ModelChange(Kind.RESET_TIMESLOTS, null, null, null, null);
+
+    private final Kind kind;
+    private final StudentId targetId;
+    private final Person person;
+    private final Week week;
+    private final Timeslot timeslot;
+
+    private ModelChange(Kind kind, StudentId targetId, Person person, Week week, Timeslot timeslot) {
+        this.kind = kind;
+        this.targetId = targetId;
+        this.person = person;
+        this.week = week;
+        this.timeslot = timeslot;
+    }
+
+    public static ModelChange addPerson(Person person) {
+        requireNonNull(person);
+        return new ModelChange(Kind.ADD_PERSON, null, person, null, null);
+    }
+
+    /**
+     * Returns a change replacing the person with student ID {@code targetId} by {@code editedPerson}.
+     */
+    public static ModelChange setPerson(StudentId targetId, Person editedPerson) {
+        requireAllNonNull(targetId, editedPerson);
+        return new ModelChange(Kind.SET_PERSON, targetId, editedPerson, null, null);
+    }
+
+    public static ModelChange deletePerson(StudentId targetId) {
+        requireNonNull(targetId);
+        return new ModelChange(Kind.DELETE_PERSON, targetId, null, null, null);
+    }
+
+    public static ModelChange setWeek(Week week) {
+        requireNonNull(week);
+        return new ModelChange(Kind.SET_WEEK, null, null, week, null);
+    }
+
+    public static ModelChange addTimeslot(Timeslot timeslot) {
+        requireNonNull(timeslot);
+        return new ModelChange(Kind.ADD_TIMESLOT, null, null, null, timeslot);
+    }
+
+    public static ModelChange removeTimeslot(Timeslot timeslot) {
+        requireNonNull(timeslot);
+        return new ModelChange(Kind.REMOVE_TIMESLOT, null, null, null, timeslot);
+    }
+
+    public static ModelChange clearTimeslots() {
+        return CLEAR_TIMESLOTS;
+    }
+
+    /**
+     * Returns a change signalling that the address book was replaced as a whole, e.g. by a sort, clear or undo.
+     */
+    public static ModelChange resetAddressBook() {
+        return RESET_ADDRESS_BOOK;
+    }
+
+    /**
+     * Returns a change signalling that the timeslots were replaced as a whole, e.g. by an undo.
+     */
+    public static ModelChange resetTimeslots() {
+        return RESET_TIMESLOTS;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns true if this change can be replayed with {@link #applyTo}, i.e. it is not a reset.
+     */
+    public boolean isReplayable() {
+        return kind != Kind.RESET_ADDRESS_BOOK && kind != Kind.RESET_TIMESLOTS;
+    }
+
+    /**
+     * Returns true if this change affects the timeslots, or false if it affects the address book.
+     */
+    public boolean isTimeslotsChange() {
+        switch (kind) {
+        case ADD_TIMESLOT:
+        case REMOVE_TIMESLOT:
+        case CLEAR_TIMESLOTS:
+        case RESET_TIMESLOTS:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    public Optional<StudentId> getTargetId() {
+        return Optional.ofNullable(targetId);
+    }
+
+    public Optional<Person> getPerson() {
+        return Optional.ofNullable(person);
+    }
+
+    public Optional<Week> getWeek() {
+        return Optional.ofNullable(week);
+    }
+
+    public Optional<Timeslot> getTimeslot() {
+        return Optional.ofNullable(timeslot);
+    }
+
+    /**
+     * Applies this change to {@code addressBook} and {@code timeslots}.
+     * Persons are matched by student ID, and changes already reflected in the data are skipped.
+     *
+     * @throws IllegalStateException if this change is not {@link #isReplayable() replayable}.
+     * @throws IllegalArgumentException if an added timeslot overlaps a different existing timeslot.
+     */
+    public void applyTo(AddressBook addressBook, Timeslots timeslots) {
+        requireAllNonNull(addressBook, timeslots);
+        switch (kind) {
+        case ADD_PERSON:
+            upsertPerson(addressBook, person.getStudentId(), person);
+            break;
+        case SET_PERSON:
+            upsertPerson(addressBook, targetId, person);
+            break;
+        case DELETE_PERSON:
+            addressBook.getPerson(targetId).ifPresent(addressBook::removePerson);
+            break;
+        case SET_WEEK:
+            addressBook.setCurrentWeek(week);
+            break;
+        case ADD_TIMESLOT:
+            if (!timeslots.hasTimeslot(timeslot)) {
+                timeslots.addTimeslot(timeslot);
+            }
+            break;
+        case REMOVE_TIMESLOT:
+            timeslots.removeTimeslot(timeslot);
+            break;
+        case CLEAR_TIMESLOTS:
+            timeslots.clear();
+            break;
+        default:
+            throw new IllegalStateException("A " + kind + " change cannot be replayed");
+        }
+    }
+
+    /**
+     * Replaces the person with student ID {@code targetId}, or failing that the person with the same student ID as
+     * {@code newPerson}, by {@code newPerson}. Adds {@code newPerson} if neither exists.
+     */
+    private static void upsertPerson(AddressBook addressBook, StudentId targetId, Person newPerson) {
+        Optional<Person> existing = addressBook.getPerson(targetId);
+        if (existing.isEmpty()) {
+            existing = addressBook.getPerson(newPerson.getStudentId());
+        }
+        if (existing.isPresent()) {
+            addressBook.setPerson(existing.get(), newPerson);
+        } else {
+            addressBook.addPerson(newPerson);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ModelChange)) {
+            return false;
+        }
+        ModelChange otherChange = (ModelChange) other;
+        return kind == otherChange.kind
+                && Objects.equals(targetId, otherChange.targetId)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(week, otherChange.week)
+                && Objects.equals(timeslot, otherChange.timeslot);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, targetId, person, week, timeslot);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("targetId", targetId)
+                .add("person", person)
+                .add("week", week)
+                .add("timeslot", timeslot)
+                .toString();
+    }
+}
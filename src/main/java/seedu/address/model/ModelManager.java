@@ -4,7 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,7 +13,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.SearchablePredicate;
+import seedu.address.model.person.predicates.WeekRelativePredicate;
+import seedu.address.model.person.sortcriterion.SortCriterion;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -24,12 +29,18 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final PersonMatchCache matchCache;
+    // The predicate last given to updateFilteredPersonList, before it was bound to the current week
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
     private ReadOnlyAddressBook previousAddressBookState;
     private ReadOnlyTimeslots previousTimeslotsState;
 
     // Add timeslots managed by the model
     private Timeslots timeslots;
 
+    // Mutations made since the last call to takeChanges(), in the order they were made
+    private final List<ModelChange> pendingChanges = new ArrayList<>();
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -42,6 +53,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.timeslots = new Timeslots(); // default empty timeslots
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        matchCache = new PersonMatchCache(this.addressBook::getVersion);
     }
 
     /**
@@ -57,6 +69,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.timeslots = new Timeslots(timeslots);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        matchCache = new PersonMatchCache(this.addressBook::getVersion);
         this.previousAddressBookState = null;
         this.previousTimeslotsState = null;
     }
@@ -103,7 +116,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        Week previousWeek = getCurrentWeek();
         this.addressBook.resetData(addressBook);
+        pendingChanges.add(ModelChange.resetAddressBook());
+        refilterIfWeekChanged(previousWeek);
     }
 
     @Override
@@ -120,11 +136,13 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        pendingChanges.add(ModelChange.deletePerson(target.getStudentId()));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        pendingChanges.add(ModelChange.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -133,12 +151,25 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        pendingChanges.add(ModelChange.setPerson(target.getStudentId(), editedPerson));
     }
 
     @Override
-    public void sortPersonList(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        addressBook.sortPersons(comparator);
+    public void sortPersonList(SortCriterion sortCriterion) {
+        requireNonNull(sortCriterion);
+        addressBook.sortPersons(sortCriterion);
+        pendingChanges.add(ModelChange.resetAddressBook());
+    }
+
+    @Override
+    public List<Person> getRankedPersons(SortCriterion sortCriterion, int count, boolean isFromBottom) {
+        requireNonNull(sortCriterion);
+        return addressBook.getRankedPersons(sortCriterion, count, isFromBottom);
+    }
+
+    @Override
+    public ClassStatistics getClassStatistics() {
+        return addressBook.getClassStatistics();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -155,7 +186,24 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filterPredicate = predicate;
+        Predicate<Person> boundPredicate = WeekRelativePredicate.bindToWeek(predicate, getCurrentWeek());
+        // Only the persons the search index finds for the predicate are tested
+        Predicate<Person> testedPredicate = boundPredicate instanceof SearchablePredicate
+                ? addressBook.getSearchIndex().narrow((SearchablePredicate) boundPredicate)
+                : boundPredicate;
+        filteredPersons.setPredicate(matchCache.reuse(boundPredicate, testedPredicate));
+        matchCache.record(boundPredicate, filteredPersons, addressBook.getPersonList().size());
+    }
+
+    /**
+     * Filters the list again in the current week if it is filtered by a predicate that depends on the week and the
+     * week is no longer {@code previousWeek}.
+     */
+    private void refilterIfWeekChanged(Week previousWeek) {
+        if (filterPredicate instanceof WeekRelativePredicate && !previousWeek.equals(getCurrentWeek())) {
+            updateFilteredPersonList(filterPredicate);
+        }
     }
 
     //=========== Undo Command =================================================================================
@@ -202,6 +250,7 @@ public class ModelManager implements Model {
     public void setTimeslots(ReadOnlyTimeslots newData) {
         requireNonNull(newData);
         this.timeslots.resetData(newData);
+        pendingChanges.add(ModelChange.resetTimeslots());
     }
 
     /**
@@ -212,6 +261,7 @@ public class ModelManager implements Model {
     public void addTimeslot(Timeslot t) {
         requireNonNull(t);
         this.timeslots.addTimeslot(t);
+        pendingChanges.add(ModelChange.addTimeslot(t));
     }
 
     /**
@@ -223,6 +273,7 @@ public class ModelManager implements Model {
     public void removeTimeslot(Timeslot t) {
         requireNonNull(t);
         this.timeslots.removeTimeslot(t);
+        pendingChanges.add(ModelChange.removeTimeslot(t));
     }
 
     /**
@@ -243,13 +294,17 @@ public class ModelManager implements Model {
     public void clearTimeslots() {
         requireNonNull(this.timeslots);
         this.timeslots.clear();
+        pendingChanges.add(ModelChange.clearTimeslots());
     }
 
     //=========== CurrentWeek Accessors =============================================================
 
     @Override
     public void setCurrentWeek(Week currentWeek) {
+        Week previousWeek = getCurrentWeek();
         addressBook.setCurrentWeek(currentWeek);
+        pendingChanges.add(ModelChange.setWeek(currentWeek));
+        refilterIfWeekChanged(previousWeek);
     }
 
     @Override
@@ -257,6 +312,18 @@ public class ModelManager implements Model {
         return addressBook.getCurrentWeek();
     }
 
+    //=========== Change tracking =============================================================
+
+    /**
+     * Returns the mutations made since the last call to this method, in the order they were made,
+     * and stops tracking them.
+     */
+    public List<ModelChange> takeChanges() {
+        List<ModelChange> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        return changes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.RefiningPredicate;
+
+/**
+ * Remembers which persons the last few predicates that the person list was filtered with matched, so that filtering
+ * again with one of them, or with a refinement of the last one, does not have to test every person.
+ *
+ * Match sets are kept together with the version of the persons they were taken at, and are only reused while that
+ * version is current; any change to the persons makes them all stale.
+ */
+class PersonMatchCache {
+
+    static final int CAPACITY = 8;
+
+    private final LongSupplier versionSupplier;
+    // Most recently recorded first
+    private final Deque<MatchSet> matchSets = new ArrayDeque<>();
+    private Predicate<Person> lastPredicate;
+
+    /**
+     * Creates a cache for persons whose current version is given by {@code versionSupplier}.
+     */
+    PersonMatchCache(LongSupplier versionSupplier) {
+        requireNonNull(versionSupplier);
+        this.versionSupplier = versionSupplier;
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, which is tested with
+     * {@code testedPredicate}, but reuses a recorded match set where it can:
+     * if {@code predicate} itself was recorded, persons are looked up in its match set without being tested, and if
+     * {@code predicate} refines the last recorded predicate, only the persons that one matched are tested.
+     */
+    Predicate<Person> reuse(Predicate<Person> predicate, Predicate<Person> testedPredicate) {
+        requireNonNull(predicate);
+        requireNonNull(testedPredicate);
+        long version = versionSupplier.getAsLong();
+        removeStale(version);
+        for (MatchSet matchSet : matchSets) {
+            if (matchSet.predicate.equals(predicate)) {
+                return new SubsetPredicate(matchSet.persons, version, testedPredicate, true);
+            }
+        }
+        MatchSet last = matchSets.peekFirst();
+        if (last != null && last.predicate == lastPredicate && predicate instanceof RefiningPredicate
+                && ((RefiningPredicate) predicate).isRefinementOf(lastPredicate)) {
+            return new SubsetPredicate(last.persons, version, testedPredicate, false);
+        }
+        return testedPredicate;
+    }
+
+    /**
+     * Records that {@code predicate} matched exactly {@code matches} at the current version. Predicates that match
+     * every one of the {@code personCount} persons are not worth recording, as testing them is cheap anyway.
+     */
+    void record(Predicate<Person> predicate, List<Person> matches, int personCount) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        lastPredicate = predicate;
+        long version = versionSupplier.getAsLong();
+        removeStale(version);
+        matchSets.removeIf(matchSet -> matchSet.predicate.equals(predicate));
+        if (matches.size() == personCount) {
+            return;
+        }
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        persons.addAll(matches);
+        matchSets.addFirst(new MatchSet(predicate, version, persons));
+        if (matchSets.size() > CAPACITY) {
+            matchSets.removeLast();
+        }
+    }
+
+    private void removeStale(long version) {
+        for (Iterator<MatchSet> iterator = matchSets.iterator(); iterator.hasNext();) {
+            if (iterator.next().version != version) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * The persons a predicate matched at a version of the persons, compared by identity.
+     */
+    private static class MatchSet {
+        private final Predicate<Person> predicate;
+        private final long version;
+        private final Set<Person> persons;
+
+        MatchSet(Predicate<Person> predicate, long version, Set<Person> persons) {
+            this.predicate = predicate;
+            this.version = version;
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * Only accepts persons in a match set, and tests them too unless the match set is exact. Once the persons change
+     * from the version the match set was taken at, it falls back to testing every person.
+     */
+    private class SubsetPredicate implements Predicate<Person> {
+        private final Set<Person> subset;
+        private final long version;
+        private final Predicate<Person> testedPredicate;
+        private final boolean isExact;
+
+        SubsetPredicate(Set<Person> subset, long version, Predicate<Person> testedPredicate, boolean isExact) {
+            this.subset = subset;
+            this.version = version;
+            this.testedPredicate = testedPredicate;
+            this.isExact = isExact;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (versionSupplier.getAsLong() != version) {
+                return testedPredicate.test(person);
+            }
+            return subset.contains(person) && (isExact || testedPredicate.test(person));
+        }
+    }
+}
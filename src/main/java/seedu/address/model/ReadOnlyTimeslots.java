@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.timeslot.Timeslot;
 
@@ -8,4 +11,19 @@ import seedu.address.model.timeslot.Timeslot;
  */
 public interface ReadOnlyTimeslots {
     ObservableList<Timeslot> getTimeslotList();
+
+    /**
+     * Returns the timeslots that overlap {@code range}, in order of start time.
+     */
+    List<Timeslot> getOverlappingTimeslots(Timeslot range);
+
+    /**
+     * Returns the ranges covered by back-to-back timeslots as {@code [start, end]} pairs, in order of start time.
+     */
+    List<LocalDateTime[]> getMergedTimeslotRanges();
+
+    /**
+     * Returns the ranges covered by back-to-back consultations as {@code [start, end]} pairs, in order of start time.
+     */
+    List<LocalDateTime[]> getMergedConsultationRanges();
 }
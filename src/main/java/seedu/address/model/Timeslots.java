@@ -2,20 +2,41 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.jfr.ModelMutationEvent;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.MergedTimeslotRanges;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
  * Wraps all data at the timeslots level.
- * Duplicates are not allowed (by .equals comparison).
+ * Timeslots may not overlap, so duplicates are not allowed either.
+ *
+ * Besides the observable list shown in the UI, timeslots are indexed by start time. Because stored timeslots never
+ * overlap, ordering them by start also orders them by end, so the stored timeslot that ends latest before any
+ * point in time is simply its predecessor in the index. Overlap and containment queries therefore take
+ * O(log n + k) time for k matching timeslots. The observable list is kept in the same start order, so the position
+ * of a timeslot in it is found by binary search rather than by comparing it with every stored timeslot.
+ *
+ * The merged ranges of all timeslots, and of consultations alone, are also kept up to date on every change so that
+ * reading them does not require re-sorting and re-merging the whole list.
  */
 public class Timeslots implements ReadOnlyTimeslots {
 
     private final ObservableList<Timeslot> times = FXCollections.observableArrayList();
+    private final NavigableMap<LocalDateTime, Timeslot> timeslotsByStart = new TreeMap<>();
+    private final MergedTimeslotRanges mergedRanges = new MergedTimeslotRanges();
+    private final MergedTimeslotRanges mergedConsultationRanges = new MergedTimeslotRanges();
 
     public Timeslots() {}
 
@@ -31,11 +52,33 @@ public class Timeslots implements ReadOnlyTimeslots {
 
     /**
      * Replaces the contents of the timeslot list with {@code timeslots}.
-     * {@code timeslots} must not contain duplicate timeslots.
+     * {@code timeslots} must not contain overlapping timeslots, just as adding them one at a time with
+     * {@link #addTimeslot(Timeslot)} would not allow; the contents are left unchanged if they do.
+     * The check sorts a copy by start time and sweeps it once, so setting n timeslots costs O(n log n)
+     * rather than the O(n^2) of calling {@link #addTimeslot(Timeslot)} for each one. The timeslots are listed in
+     * order of start time afterwards.
+     *
+     * @throws IllegalArgumentException if any two timeslots in {@code timeslots} overlap.
      */
     public void setTimeslots(List<Timeslot> timeslots) {
         requireNonNull(timeslots);
-        times.setAll(timeslots);
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.TIMESLOTS, "set");
+        List<Timeslot> byStart = new ArrayList<>(timeslots);
+        byStart.sort(Comparator.comparing(Timeslot::getStart));
+        Timeslot previous = null;
+        for (Timeslot t : byStart) {
+            if (previous != null && overlaps(previous, t)) {
+                throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + previous);
+            }
+            previous = t;
+        }
+
+        clearIndexes();
+        for (Timeslot t : byStart) {
+            index(t);
+        }
+        times.setAll(byStart);
+        event.end(times.size());
     }
 
     /**
@@ -43,6 +86,16 @@ public class Timeslots implements ReadOnlyTimeslots {
      */
     public void resetData(ReadOnlyTimeslots newData) {
         requireNonNull(newData);
+        if (newData instanceof Timeslots) {
+            // Already known not to overlap, so the index can be copied as is.
+            Timeslots source = (Timeslots) newData;
+            timeslotsByStart.clear();
+            timeslotsByStart.putAll(source.timeslotsByStart);
+            mergedRanges.setAll(source.mergedRanges);
+            mergedConsultationRanges.setAll(source.mergedConsultationRanges);
+            times.setAll(source.times);
+            return;
+        }
         setTimeslots(newData.getTimeslotList());
     }
 
@@ -57,12 +110,30 @@ public class Timeslots implements ReadOnlyTimeslots {
     public void addTimeslot(Timeslot t) {
         requireNonNull(t);
         // Prevent overlapping timeslots: new timeslot must not intersect any existing timeslot.
-        for (Timeslot existing : times) {
-            if (overlaps(existing, t)) {
-                throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + existing);
-            }
+        List<Timeslot> overlapping = getOverlappingTimeslots(t);
+        if (!overlapping.isEmpty()) {
+            throw new IllegalArgumentException("Timeslot overlaps existing timeslot: " + overlapping.get(0));
+        }
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.TIMESLOTS, "add");
+        index(t);
+        times.add(positionOf(t.getStart()), t);
+        event.end(times.size());
+    }
+
+    /**
+     * Returns the stored timeslots that overlap {@code range}, in order of start time.
+     */
+    @Override
+    public List<Timeslot> getOverlappingTimeslots(Timeslot range) {
+        requireNonNull(range);
+        List<Timeslot> overlapping = new ArrayList<>();
+        // Only the timeslot starting just before the range can reach into it; all earlier ones end before it does.
+        Map.Entry<LocalDateTime, Timeslot> before = timeslotsByStart.lowerEntry(range.getStart());
+        if (before != null && overlaps(before.getValue(), range)) {
+            overlapping.add(before.getValue());
         }
-        times.add(t);
+        overlapping.addAll(timeslotsByStart.subMap(range.getStart(), true, range.getEnd(), false).values());
+        return overlapping;
     }
 
     /**
@@ -80,18 +151,78 @@ public class Timeslots implements ReadOnlyTimeslots {
      */
     public boolean hasTimeslot(Timeslot t) {
         requireNonNull(t);
-        return times.contains(t);
+        return t.equals(timeslotsByStart.get(t.getStart()));
     }
 
+    /**
+     * Removes the given timeslot from this Timeslots collection, if present.
+     */
     public void removeTimeslot(Timeslot key) {
-        times.remove(key);
+        if (!hasTimeslot(key)) {
+            return;
+        }
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.TIMESLOTS, "remove");
+        timeslotsByStart.remove(key.getStart());
+        mergedRanges.remove(key);
+        if (key instanceof ConsultationTimeslot) {
+            mergedConsultationRanges.remove(key);
+        }
+        times.remove(positionOf(key.getStart()));
+        event.end(times.size());
+    }
+
+    /**
+     * Returns the position in the start-ordered list of the timeslot starting at {@code start}, or of where such a
+     * timeslot would be inserted.
+     */
+    private int positionOf(LocalDateTime start) {
+        int low = 0;
+        int high = times.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times.get(mid).getStart().isBefore(start)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
      * Clears all timeslots in this collection while preserving the same ObservableList instance.
      */
     public void clear() {
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.TIMESLOTS, "clear");
+        clearIndexes();
         times.clear();
+        event.end(0);
+    }
+
+    private void index(Timeslot t) {
+        timeslotsByStart.put(t.getStart(), t);
+        mergedRanges.add(t);
+        if (t instanceof ConsultationTimeslot) {
+            mergedConsultationRanges.add(t);
+        }
+    }
+
+    private void clearIndexes() {
+        timeslotsByStart.clear();
+        mergedRanges.clear();
+        mergedConsultationRanges.clear();
+    }
+
+    //// merged range views
+
+    @Override
+    public List<LocalDateTime[]> getMergedTimeslotRanges() {
+        return mergedRanges.getRanges();
+    }
+
+    @Override
+    public List<LocalDateTime[]> getMergedConsultationRanges() {
+        return mergedConsultationRanges.getRanges();
     }
 
     //// util methods
@@ -46,5 +46,10 @@ public class Week {
 
         return this.weekNumber == ((Week) other).weekNumber;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(weekNumber);
+    }
 }
 
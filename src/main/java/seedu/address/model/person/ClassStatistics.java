@@ -0,0 +1,243 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.Week;
+
+/**
+ * Class-wide statistics of the persons in a list: how many have done each exercise, attended each lab and been
+ * graded for and passed each exam, and how many attended each number of labs.
+ *
+ * The counts are built from the list the first time they are read and then kept up to date by the list, which must
+ * call {@link #add}, {@link #remove} and {@link #invalidate} before changing its contents, so reading them takes
+ * constant time however many persons there are. Counts that depend on the week, such as overdue exercises and
+ * absent labs, are derived from the others for the week they are read in, so changing the week does not touch them.
+ * How many persons attended each number of labs is already kept by the list's {@code PersonSearchIndex} for planning
+ * filters, so it is read from there.
+ */
+public class ClassStatistics {
+
+    private static final int NUMBER_OF_EXAMS = GradeMap.VALID_EXAM_NAMES.length;
+
+    private final List<Person> persons;
+    private final PersonSearchIndex searchIndex;
+    // What each person was counted towards, so that it can be uncounted without reading the person again
+    private final Map<StudentId, Contribution> contributions = new HashMap<>();
+    private final int[] doneCounts = new int[ExerciseTracker.NUMBER_OF_EXERCISES];
+    private final int[] attendedCounts = new int[LabList.NUMBER_OF_LABS];
+    private final int[] gradedCounts = new int[NUMBER_OF_EXAMS];
+    private final int[] passedCounts = new int[NUMBER_OF_EXAMS];
+    private boolean isBuilt;
+
+    /**
+     * Creates the statistics of {@code persons}, which must stay the same list for the life of the statistics and
+     * be the list indexed by {@code searchIndex}.
+     */
+    public ClassStatistics(List<Person> persons, PersonSearchIndex searchIndex) {
+        requireAllNonNull(persons, searchIndex);
+        this.persons = persons;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Counts {@code person}, which is about to be added to the list.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        if (isBuilt) {
+            count(person);
+        }
+    }
+
+    /**
+     * Uncounts {@code person}, which is about to be removed from the list.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        Contribution contribution = contributions.remove(person.getStudentId());
+        if (contribution != null) {
+            contribution.addTo(-1, this);
+        }
+    }
+
+    /**
+     * Discards the counts because most or all of the list is about to be replaced. They are counted again from the
+     * list when they are next read.
+     */
+    void invalidate() {
+        isBuilt = false;
+        contributions.clear();
+        for (int[] counts : List.of(doneCounts, attendedCounts, gradedCounts, passedCounts)) {
+            Arrays.fill(counts, 0);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int getPersonCount() {
+        build();
+        return contributions.size();
+    }
+
+    /**
+     * Returns the number of persons who have done the exercise with the given zero-based number.
+     */
+    public int getDoneCount(int exerciseNumber) {
+        build();
+        return doneCounts[exerciseNumber];
+    }
+
+    /**
+     * Returns the percentage of persons who have done the exercise with the given zero-based number, rounded down,
+     * or 0 if there are no persons.
+     */
+    public int getCompletionRate(int exerciseNumber) {
+        return toPercentage(getDoneCount(exerciseNumber), getPersonCount());
+    }
+
+    /**
+     * Returns the number of persons whose exercise with the given zero-based number is overdue in {@code currentWeek}.
+     */
+    public int getOverdueCount(int exerciseNumber, Week currentWeek) {
+        requireNonNull(currentWeek);
+        build();
+        return ExerciseTracker.isPastDeadline(exerciseNumber, currentWeek)
+                ? contributions.size() - doneCounts[exerciseNumber]
+                : 0;
+    }
+
+    /**
+     * Returns the number of overdue exercises of all persons together in {@code currentWeek}.
+     */
+    public int getTotalOverdueCount(Week currentWeek) {
+        int total = 0;
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            total += getOverdueCount(i, currentWeek);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of persons who attended the lab with the given zero-based index.
+     */
+    public int getAttendedCount(int labIndex) {
+        build();
+        return attendedCounts[labIndex];
+    }
+
+    /**
+     * Returns the number of persons who were absent from the lab with the given zero-based index, which is everyone
+     * who did not attend it once it is past in {@code currentWeek}.
+     */
+    public int getAbsentCount(int labIndex, Week currentWeek) {
+        requireNonNull(currentWeek);
+        build();
+        return CompactLabList.isPastLab(labIndex, currentWeek) ? contributions.size() - attendedCounts[labIndex] : 0;
+    }
+
+    /**
+     * Returns the number of persons who attended exactly {@code labCount} labs.
+     */
+    public int getCountByLabsAttended(int labCount) {
+        return searchIndex.countByLabsAttended(labCount);
+    }
+
+    /**
+     * Returns the number of persons who have been graded for the exam named {@code examName}, which must be one of
+     * {@link GradeMap#VALID_EXAM_NAMES}.
+     */
+    public int getGradedCount(String examName) {
+        build();
+        return gradedCounts[toExamIndex(examName)];
+    }
+
+    /**
+     * Returns the number of persons who passed the exam named {@code examName}, which must be one of
+     * {@link GradeMap#VALID_EXAM_NAMES}.
+     */
+    public int getPassedCount(String examName) {
+        build();
+        return passedCounts[toExamIndex(examName)];
+    }
+
+    /**
+     * Returns the percentage of the persons graded for the exam named {@code examName} who passed it, rounded down,
+     * or 0 if no one has been graded for it.
+     */
+    public int getPassRate(String examName) {
+        return toPercentage(getPassedCount(examName), getGradedCount(examName));
+    }
+
+    private static int toPercentage(int count, int total) {
+        return total == 0 ? 0 : (int) (count * 100L / total);
+    }
+
+    private static int toExamIndex(String examName) {
+        requireNonNull(examName);
+        int exam = GradeMap.indexOfExam(examName);
+        checkArgument(exam != -1, "Unknown exam: " + examName);
+        return exam;
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        for (Person person : persons) {
+            count(person);
+        }
+    }
+
+    private void count(Person person) {
+        Contribution contribution = new Contribution(person);
+        contributions.put(person.getStudentId(), contribution);
+        contribution.addTo(1, this);
+    }
+
+    /**
+     * The statuses a person was counted with, as bitmasks with a bit for each exercise, lab or exam.
+     */
+    private static class Contribution {
+        private final int doneMask;
+        private final int attendedMask;
+        private final int gradedMask;
+        private final int passedMask;
+
+        Contribution(Person person) {
+            doneMask = person.getExerciseTracker().getDoneMask();
+            attendedMask = CompactLabList.toAttendedMask(person.getLabAttendanceList());
+            gradedMask = person.getGradeMap().getGradedMask();
+            passedMask = person.getGradeMap().getPassedMask();
+        }
+
+        /**
+         * Adds {@code delta} to every count of {@code statistics} that this contribution was counted towards.
+         */
+        void addTo(int delta, ClassStatistics statistics) {
+            addToSetBits(statistics.doneCounts, doneMask, delta);
+            addToSetBits(statistics.attendedCounts, attendedMask, delta);
+            addToSetBits(statistics.gradedCounts, gradedMask, delta);
+            addToSetBits(statistics.passedCounts, passedMask, delta);
+        }
+
+        private static void addToSetBits(int[] counts, int mask, int delta) {
+            for (int i = 0; i < counts.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    counts[i] += delta;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.Week;
+
+/**
+ * A {@code LabAttendanceList} that packs the attendance of all {@link LabList#NUMBER_OF_LABS} labs into the bits
+ * of a single {@code int}, instead of holding one {@link Lab} object per session.
+ * Statuses are derived from the attendance bits and the week they are read in, following the same rules as
+ * {@link Lab}.
+ */
+public class CompactLabList implements LabAttendanceList {
+    private static final List<String> LABELS = createLabels();
+    private int attendedMask;
+
+    /**
+     * Constructs a {@code CompactLabList} with all labs initialized to not attended.
+     */
+    public CompactLabList() {
+        this(0);
+    }
+
+    /**
+     * Constructs a {@code CompactLabList} whose attended labs are given by the set bits of {@code attendedMask},
+     * where bit {@code i} corresponds to the lab at zero-based index {@code i}.
+     */
+    public CompactLabList(int attendedMask) {
+        assert attendedMask >>> LabList.NUMBER_OF_LABS == 0 : "Attendance bits set beyond the last lab";
+        this.attendedMask = attendedMask;
+    }
+
+    private static List<String> createLabels() {
+        List<String> labels = new ArrayList<>();
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            labels.add("L" + (i + 1));
+        }
+        return Collections.unmodifiableList(labels);
+    }
+
+    private boolean isAttended(int index) {
+        return (attendedMask & (1 << index)) != 0;
+    }
+
+    @Override
+    public void markLabAsAttended(int index) {
+        assert index >= 0 : "Index must be greater than zero (one based)";
+        assert index < LabList.NUMBER_OF_LABS : "Index must be smaller than " + LabList.NUMBER_OF_LABS + " (one based)";
+        if (isAttended(index)) {
+            throw new IllegalStateException("Lab Attendance has already been marked as attended");
+        }
+        attendedMask |= 1 << index;
+    }
+
+    @Override
+    public void markLabAsAbsent(int index) {
+        assert index >= 0 : "Index must be greater than zero (one based)";
+        assert index < LabList.NUMBER_OF_LABS : "Index must be smaller than " + LabList.NUMBER_OF_LABS + " (one based)";
+        if (!isAttended(index)) {
+            throw new IllegalStateException("Lab Attendance has already been marked as not attended");
+        }
+        attendedMask &= ~(1 << index);
+    }
+
+    @Override
+    public double calculateLabAttendance() {
+        return (double) Integer.bitCount(attendedMask) / LabList.NUMBER_OF_LABS * 100;
+    }
+
+    @Override
+    public String getLabStatus(int index, Week currentWeek) {
+        if (isAttended(index)) {
+            return "Y";
+        } else if (isPastLab(index, currentWeek)) {
+            return "A";
+        } else {
+            return "N";
+        }
+    }
+
+    /**
+     * Returns true if the lab with the given zero-based index is over in {@code currentWeek}, so that not having
+     * attended it counts as an absence.
+     */
+    public static boolean isPastLab(int index, Week currentWeek) {
+        return index + 1 + Lab.LAB_WEEK_DIFFERENCE < currentWeek.getWeekNumber();
+    }
+
+    /**
+     * Returns the bits recording which labs were attended.
+     */
+    public int getAttendedMask() {
+        return attendedMask;
+    }
+
+    /**
+     * Returns the bits recording which labs of {@code labs} were attended, whichever way {@code labs} stores them.
+     */
+    public static int toAttendedMask(LabAttendanceList labs) {
+        if (labs instanceof CompactLabList) {
+            return ((CompactLabList) labs).getAttendedMask();
+        }
+        int attendedMask = 0;
+        LabAttendance[] labArray = labs.getLabs();
+        for (int i = 0; i < labArray.length; i++) {
+            if (labArray[i].isAttended()) {
+                attendedMask |= 1 << i;
+            }
+        }
+        return attendedMask;
+    }
+
+    @Override
+    public CompactLabList copy() {
+        return new CompactLabList(attendedMask);
+    }
+
+    /**
+     * Returns a snapshot of the labs in this list as {@code Lab} objects.
+     * Changes to the returned labs are not written back to this list.
+     */
+    @Override
+    public LabAttendance[] getLabs() {
+        LabAttendance[] labs = new LabAttendance[LabList.NUMBER_OF_LABS];
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            Lab lab = new Lab(i + 1);
+            if (isAttended(i)) {
+                lab.markAsAttended();
+            }
+            labs[i] = lab;
+        }
+        return labs;
+    }
+
+    @Override
+    public int compareTo(LabAttendanceList other) {
+        return Double.compare(this.calculateLabAttendance(), other.calculateLabAttendance());
+    }
+
+    @Override
+    public List<TrackerColour> getTrackerColours(Week currentWeek) {
+        List<TrackerColour> colours = new ArrayList<>(LabList.NUMBER_OF_LABS);
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            TrackerColour colour = switch (getLabStatus(i, currentWeek)) {
+            case "Y" -> TrackerColour.GREEN;
+            case "A" -> TrackerColour.RED;
+            default -> TrackerColour.GREY; // "N"
+            };
+            colours.add(colour);
+        }
+        return colours;
+    }
+
+    @Override
+    public List<String> getLabels() {
+        return LABELS;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof LabAttendanceList)) {
+            return false;
+        }
+
+        return attendedMask == toAttendedMask((LabAttendanceList) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(attendedMask);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            result.append('L').append(i + 1).append(": ").append(isAttended(i) ? 'Y' : 'N').append(' ');
+        }
+        return result.toString();
+    }
+}
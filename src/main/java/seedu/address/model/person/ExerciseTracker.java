@@ -1,61 +1,89 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Week;
 
 /**
- * Represents a Person's address in the address book.
+ * Tracks the completion of a student's weekly exercises.
+ * Completion is packed into the low {@link #NUMBER_OF_EXERCISES} bits of a single {@code int}; an exercise's
+ * status is derived from its bit and the week it is read in.
  */
 public class ExerciseTracker implements Comparable<ExerciseTracker>, Trackable {
 
     public static final String MESSAGE_CONSTRAINTS = "Exercise tracker takes in statuses";
     public static final int NUMBER_OF_EXERCISES = 10;
+    public static final int EXERCISE_WEEK_DIFFERENCE = 2;
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    private static int currentWeekNumber;
-    private ArrayList<Exercise> exercises = new ArrayList<>();
+    private static final List<String> LABELS = createLabels();
+    private static final String[] INDEX_LABELS = createIndexLabels();
+    private int doneMask;
 
     /**
      * Initialises statuses to all be not done
      */
     public ExerciseTracker() {
-        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            exercises.add(new Exercise(i, false, currentWeekNumber));
-        }
-        assert exercises.size() == NUMBER_OF_EXERCISES : "Exercise tracker must have exactly 10 exercises";
+        this.doneMask = 0;
     }
     /**
      * Initializes exercises using a list of statuses.
      * Each index corresponds to an exercise number.
      */
     public ExerciseTracker(ArrayList<Boolean> isDoneList) {
+        this();
         assert isDoneList != null : "Statuses list must not be null";
         if (isDoneList.size() > NUMBER_OF_EXERCISES) {
             throw new IllegalArgumentException("Too many statuses! Expected at most " + NUMBER_OF_EXERCISES);
         }
-        this.exercises = new ArrayList<>();
         for (int i = 0; i < isDoneList.size(); i++) {
-            exercises.add(new Exercise(i, isDoneList.get(i), currentWeekNumber));
+            if (isDoneList.get(i)) {
+                doneMask |= 1 << i;
+            }
         }
-        for (int i = isDoneList.size(); i < NUMBER_OF_EXERCISES; i++) {
-            exercises.add(new Exercise(i, false, currentWeekNumber));
+    }
+
+    /**
+     * Constructs an {@code ExerciseTracker} whose done exercises are given by the set bits of {@code doneMask},
+     * where bit {@code i} corresponds to the exercise with zero-based number {@code i}.
+     */
+    public ExerciseTracker(int doneMask) {
+        assert doneMask >>> NUMBER_OF_EXERCISES == 0 : "Done bits set beyond the last exercise";
+        this.doneMask = doneMask;
+    }
+
+    private static List<String> createLabels() {
+        List<String> labels = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            labels.add("EX" + (i));
         }
+        return Collections.unmodifiableList(labels);
     }
 
-    public static void setCurrentWeek(int week) {
-        currentWeekNumber = week;
+    private static String[] createIndexLabels() {
+        String[] labels = new String[NUMBER_OF_EXERCISES];
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            labels[i] = i + ":";
+        }
+        return labels;
     }
 
     @Override
     public String toString() {
-        return exercises.stream()
-                .map(Exercise::toString)
-                .collect(Collectors.joining(" "));
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            if (i > 0) {
+                result.append(' ');
+            }
+            result.append("ex ").append(i).append(": ").append(isDone(i) ? Status.DONE : Status.NOT_DONE);
+        }
+        return result.toString();
     }
 
     @Override
@@ -67,30 +95,36 @@ public class ExerciseTracker implements Comparable<ExerciseTracker>, Trackable {
             return false;
         }
         ExerciseTracker otherTracker = (ExerciseTracker) other;
-        return exercises.equals(otherTracker.exercises);
+        return doneMask == otherTracker.doneMask;
     }
 
     @Override
     public int hashCode() {
-        return exercises.hashCode();
+        return Integer.hashCode(doneMask);
     }
     public ArrayList<Boolean> getIsDoneList() {
-        assert exercises != null && !exercises.isEmpty() : "Exercises must be initialized";
-        return exercises.stream()
-                .map(Exercise::isDone)
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<Boolean> isDoneList = new ArrayList<>(NUMBER_OF_EXERCISES);
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            isDoneList.add(isDone(i));
+        }
+        return isDoneList;
     }
 
     /**
      * Marks the exercise at the given index with the status
      * @param index of the exercise
      * @param isDone to mark the exercise with
+     * @throws IllegalStateException if the exercise is already marked with {@code isDone}
      */
     public void markExercise(Index index, boolean isDone) {
         logger.info(String.format("Marking ex %d with %s", index.getOneBased(), isDone));
-        assert index.getZeroBased() >= 0 : "Invalid Index";
-        assert index.getZeroBased() < NUMBER_OF_EXERCISES : "Invalid Index";
-        exercises.get(index.getZeroBased()).markStatus(isDone);
+        int exerciseNumber = index.getZeroBased();
+        assert exerciseNumber >= 0 : "Invalid Index";
+        assert exerciseNumber < NUMBER_OF_EXERCISES : "Invalid Index";
+        if (isDone(exerciseNumber) == isDone) {
+            throw new IllegalStateException("Exercise has already been marked as " + (isDone ? "done" : "not done"));
+        }
+        doneMask ^= 1 << exerciseNumber;
     }
 
     /**
@@ -98,19 +132,12 @@ public class ExerciseTracker implements Comparable<ExerciseTracker>, Trackable {
      * @return the progress between 0.0 and 100.0.
      */
     public double calculateProgress() {
-        double count = 0;
-        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            Status status = exercises.get(i).getStatus();
-            if (status == Status.DONE) {
-                count++;
-            }
-        }
-        return count / NUMBER_OF_EXERCISES * 100.0;
+        return (double) Integer.bitCount(doneMask) / NUMBER_OF_EXERCISES * 100.0;
     }
 
     @Override
     public int compareTo(ExerciseTracker other) {
-        return Double.compare(this.calculateProgress(), other.calculateProgress());
+        return Integer.compare(Integer.bitCount(doneMask), Integer.bitCount(other.doneMask));
     }
 
     /**
@@ -120,37 +147,49 @@ public class ExerciseTracker implements Comparable<ExerciseTracker>, Trackable {
         if (exerciseTrackerString == null) {
             return false;
         }
-        String trimmed = exerciseTrackerString.trim();
-        String[] parts = trimmed.split("\\s+");
 
-        // Each exercise entry has 3 parts (ex, <index>:, <status>)
-        if (parts.length != NUMBER_OF_EXERCISES * 3) {
-            return false;
+        // Scans the entries in place rather than splitting the string. Accepts the same strings as trimming,
+        // splitting on \s+ and checking that each entry has 3 parts (ex, <index>:, <status>).
+        String s = exerciseTrackerString;
+        int end = s.length();
+        int index = 0;
+        while (index < end && s.charAt(index) <= ' ') {
+            index++;
+        }
+        while (end > index && s.charAt(end - 1) <= ' ') {
+            end--;
         }
 
         for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            String exKeyword = parts[i * 3];
-            String indexWithColon = parts[i * 3 + 1];
-            String status = parts[i * 3 + 2];
-
-            // Must start with "ex"
-            if (!exKeyword.equals("ex")) {
+            if (i > 0) {
+                int entryStart = StringUtil.skipWhitespace(s, index, end);
+                if (entryStart == index) {
+                    return false;
+                }
+                index = entryStart;
+            }
+            if (!s.startsWith("ex", index)) {
                 return false;
             }
 
-            // Must match index with colon, e.g. "0:", "1:", ...
-            if (!indexWithColon.equals(i + ":")) {
+            int indexStart = StringUtil.skipWhitespace(s, index + 2, end);
+            if (indexStart == index + 2 || !s.startsWith(INDEX_LABELS[i], indexStart)) {
                 return false;
             }
+            index = indexStart + INDEX_LABELS[i].length();
 
             // Valid statuses only
-            if (!status.equals("N") && !status.equals("D")
-                    && !status.equals("I") && !status.equals("O")) {
+            int statusStart = StringUtil.skipWhitespace(s, index, end);
+            if (statusStart == index || statusStart == end) {
                 return false;
             }
+            char status = s.charAt(statusStart);
+            if (status != 'N' && status != 'D' && status != 'I' && status != 'O') {
+                return false;
+            }
+            index = statusStart + 1;
         }
-
-        return true;
+        return index == end;
     }
 
     /**
@@ -158,34 +197,64 @@ public class ExerciseTracker implements Comparable<ExerciseTracker>, Trackable {
      * @return a new ExerciseTracker with copied data
      */
     public ExerciseTracker copy() {
-        ArrayList<Boolean> copiedStatuses = new ArrayList<>(this.getIsDoneList());
-        return new ExerciseTracker(copiedStatuses);
+        ExerciseTracker copy = new ExerciseTracker();
+        copy.doneMask = doneMask;
+        return copy;
     }
 
-    public List<Status> getStatuses() {
-        return exercises.stream().map(Exercise::getStatus).toList();
+    /**
+     * Returns the bits recording which exercises are done.
+     */
+    public int getDoneMask() {
+        return doneMask;
     }
 
-    @Override
-    public List<TrackerColour> getTrackerColours() {
-        return exercises.stream()
-                .map(exercise -> {
-                    Status status = exercise.getStatus();
-                    return switch (status) {
-                    case DONE -> TrackerColour.GREEN;
-                    case OVERDUE -> TrackerColour.RED;
-                    case NOT_DONE -> TrackerColour.GREY;
-                    };
-                })
-                .collect(Collectors.toList());
+    private boolean isDone(int exerciseNumber) {
+        return (doneMask & (1 << exerciseNumber)) != 0;
+    }
+
+    /**
+     * Returns the status of the exercise with the given zero-based number in {@code currentWeek}.
+     */
+    public Status getStatus(int exerciseNumber, Week currentWeek) {
+        if (isDone(exerciseNumber)) {
+            return Status.DONE;
+        } else if (isPastDeadline(exerciseNumber, currentWeek)) {
+            return Status.OVERDUE;
+        } else {
+            return Status.NOT_DONE;
+        }
+    }
+
+    /**
+     * Returns true if the exercise with the given zero-based number is overdue in {@code currentWeek} when not done.
+     */
+    public static boolean isPastDeadline(int exerciseNumber, Week currentWeek) {
+        return exerciseNumber < currentWeek.getWeekNumber() - EXERCISE_WEEK_DIFFERENCE;
     }
+
+    public List<Status> getStatuses(Week currentWeek) {
+        List<Status> statuses = new ArrayList<>(NUMBER_OF_EXERCISES);
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            statuses.add(getStatus(i, currentWeek));
+        }
+        return statuses;
+    }
+
     @Override
-    public List<String> getLabels() {
-        List<String> labels = new ArrayList<>();
+    public List<TrackerColour> getTrackerColours(Week currentWeek) {
+        List<TrackerColour> colours = new ArrayList<>(NUMBER_OF_EXERCISES);
         for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            labels.add("EX" + (i));
+            colours.add(switch (getStatus(i, currentWeek)) {
+            case DONE -> TrackerColour.GREEN;
+            case OVERDUE -> TrackerColour.RED;
+            case NOT_DONE -> TrackerColour.GREY;
+            });
         }
-        return labels;
+        return colours;
+    }
+    @Override
+    public List<String> getLabels() {
+        return LABELS;
     }
 }
-
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's GitHub Username in the githubUsername book.
  * Guarantees: immutable
@@ -24,6 +26,8 @@ public class GithubUsername {
      */
     public static final String VALIDATION_REGEX = "^(?!.*--)(?!-)[a-zA-Z0-9-]{1,39}(?<!-)$";
 
+    private static final int MAX_LENGTH = 39;
+
     public final String value;
 
     /**
@@ -41,7 +45,22 @@ public class GithubUsername {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidGithubUsername(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for the same strings as VALIDATION_REGEX without running a regex
+        int length = test.length();
+        if (length < 1 || length > MAX_LENGTH || test.charAt(0) == '-' || test.charAt(length - 1) == '-') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c == '-') {
+                if (test.charAt(i - 1) == '-') {
+                    return false;
+                }
+            } else if (!StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
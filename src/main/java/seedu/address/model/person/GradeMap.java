@@ -2,40 +2,91 @@ package seedu.address.model.person;
 
 import static seedu.address.logic.parser.GradeCommandParser.MESSAGE_INVALID_EXAM_NAME_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Week;
 import seedu.address.model.person.exceptions.InvalidExamNameException;
 
 /**
- * Wraps a HashMap with String keys and Examination values.
+ * Records the pass/fail result of each exam in {@link #VALID_EXAM_NAMES}.
+ * Results are packed into two bitmasks indexed by the position of the exam in {@link #VALID_EXAM_NAMES}:
+ * one marking which exams have been graded and one marking which of those were passed.
  */
 public class GradeMap implements Trackable {
     public static final String[] VALID_EXAM_NAMES = {"pe1", "midterm", "pe2", "final"};
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    private final HashMap<String, Examination> examMap;
+    private static final List<String> LABELS = Arrays.stream(VALID_EXAM_NAMES)
+            .map(String::toUpperCase)
+            .toList();
+    private int gradedMask;
+    private int passedMask;
 
     /**
-     * Fills the hashmap with the valid exam names.
+     * Creates a GradeMap with every valid exam ungraded.
      */
     public GradeMap() {
-        examMap = new HashMap<>();
+        gradedMask = 0;
+        passedMask = 0;
+    }
+
+    /**
+     * Creates a GradeMap from its packed results, where bit {@code i} of each mask refers to the exam at position
+     * {@code i} of {@link #VALID_EXAM_NAMES}. Only graded exams may be marked as passed.
+     */
+    public GradeMap(int gradedMask, int passedMask) {
+        assert gradedMask >>> VALID_EXAM_NAMES.length == 0 : "Graded bits set beyond the last exam";
+        assert (passedMask & ~gradedMask) == 0 : "Ungraded exams cannot be passed";
+        this.gradedMask = gradedMask;
+        this.passedMask = passedMask;
+    }
+
+    /**
+     * Returns the position of {@code examName} in {@link #VALID_EXAM_NAMES}, or -1 if it is not a valid exam name.
+     */
+    static int indexOfExam(String examName) {
+        for (int i = 0; i < VALID_EXAM_NAMES.length; i++) {
+            if (VALID_EXAM_NAMES[i].equals(examName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code examName} is one of {@link #VALID_EXAM_NAMES}.
+     */
+    public static boolean isValidExamName(String examName) {
+        return indexOfExam(examName) != -1;
+    }
 
-        for (String examName : VALID_EXAM_NAMES) {
-            examMap.put(examName, new Examination(examName));
+    private Examination getExam(int index) {
+        Examination exam = new Examination(VALID_EXAM_NAMES[index]);
+        if ((gradedMask & (1 << index)) != 0) {
+            if ((passedMask & (1 << index)) != 0) {
+                exam.markPassed();
+            } else {
+                exam.markFailed();
+            }
         }
+        return exam;
     }
 
     @Override
     public String toString() {
-        return Arrays.stream(VALID_EXAM_NAMES)
-                .map(name -> examMap.get(name).toString())
-                .collect(Collectors.joining(", "));
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < VALID_EXAM_NAMES.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(getExam(i));
+        }
+        return result.toString();
     }
 
     @Override
@@ -49,15 +100,74 @@ public class GradeMap implements Trackable {
         }
 
         GradeMap other = (GradeMap) obj;
-        return this.examMap.equals(other.examMap);
+        return this.gradedMask == other.gradedMask && this.passedMask == other.passedMask;
     }
 
+    @Override
+    public int hashCode() {
+        return gradedMask * 31 + passedMask;
+    }
+
+    /**
+     * Returns the bits recording which exams have been graded.
+     */
+    public int getGradedMask() {
+        return gradedMask;
+    }
+
+    /**
+     * Returns the bits recording which graded exams were passed.
+     */
+    public int getPassedMask() {
+        return passedMask;
+    }
+
+    /**
+     * Returns true if the exam named {@code examName} was graded as passed if {@code isPassed}, or as failed
+     * otherwise. Returns false for names that are not in {@link #VALID_EXAM_NAMES}.
+     */
+    public boolean hasExamResult(String examName, boolean isPassed) {
+        int index = indexOfExam(examName);
+        if (index == -1 || (gradedMask & (1 << index)) == 0) {
+            return false;
+        }
+        return ((passedMask & (1 << index)) != 0) == isPassed;
+    }
+
+    /**
+     * Returns a snapshot of the exams in this map, keyed by exam name.
+     * Changes to the returned map or its exams are not written back to this GradeMap.
+     */
     public HashMap<String, Examination> getExamMap() {
+        HashMap<String, Examination> examMap = new HashMap<>();
+        for (int i = 0; i < VALID_EXAM_NAMES.length; i++) {
+            examMap.put(VALID_EXAM_NAMES[i], getExam(i));
+        }
         return examMap;
     }
 
+    /**
+     * Records the result of {@code exam} under the exam named {@code key}.
+     * Results for names that are not in {@link #VALID_EXAM_NAMES} are ignored.
+     */
     public void putExam(String key, Examination exam) {
-        examMap.put(key, exam);
+        int index = indexOfExam(key);
+        if (index == -1) {
+            logger.warning(String.format("Ignoring result for unknown exam %s", key));
+            return;
+        }
+        setResult(index, exam.isPassed().orElse(null));
+    }
+
+    private void setResult(int index, Boolean isPassed) {
+        int bit = 1 << index;
+        if (isPassed == null) {
+            gradedMask &= ~bit;
+            passedMask &= ~bit;
+        } else {
+            gradedMask |= bit;
+            passedMask = isPassed ? passedMask | bit : passedMask & ~bit;
+        }
     }
 
     /**
@@ -68,9 +178,9 @@ public class GradeMap implements Trackable {
     public void markExamPassed(String name) throws InvalidExamNameException {
         logger.info(String.format("Marking %s as Passed", name));
 
-        Examination exam = examMap.get(name);
+        int index = indexOfExam(name);
 
-        if (exam == null) {
+        if (index == -1) {
             throw new InvalidExamNameException(
                     String.format(
                             MESSAGE_INVALID_EXAM_NAME_FORMAT,
@@ -80,7 +190,7 @@ public class GradeMap implements Trackable {
             );
         }
 
-        exam.markPassed();
+        setResult(index, true);
     }
 
     /**
@@ -91,9 +201,9 @@ public class GradeMap implements Trackable {
     public void markExamFailed(String name) throws InvalidExamNameException {
         logger.info(String.format("Marking %s as Failed", name));
 
-        Examination exam = examMap.get(name);
+        int index = indexOfExam(name);
 
-        if (exam == null) {
+        if (index == -1) {
             throw new InvalidExamNameException(
                     String.format(
                             MESSAGE_INVALID_EXAM_NAME_FORMAT,
@@ -102,7 +212,7 @@ public class GradeMap implements Trackable {
             );
         }
 
-        exam.markFailed();
+        setResult(index, false);
     }
 
     /**
@@ -111,39 +221,26 @@ public class GradeMap implements Trackable {
      */
     public GradeMap copy() {
         GradeMap newGradeMap = new GradeMap();
-
-        for (String examName : VALID_EXAM_NAMES) {
-            Examination original = this.examMap.get(examName);
-            Examination copied = newGradeMap.examMap.get(examName);
-
-            if (original.isPassed().isPresent()) {
-                if (original.isPassed().get()) {
-                    copied.markPassed();
-                } else {
-                    copied.markFailed();
-                }
-            }
-        }
-
+        newGradeMap.gradedMask = gradedMask;
+        newGradeMap.passedMask = passedMask;
         return newGradeMap;
     }
 
     @Override
-    public List<TrackerColour> getTrackerColours() {
-        return Arrays.stream(VALID_EXAM_NAMES)
-                .map(examName -> {
-                    Examination exam = examMap.get(examName);
-                    if (exam.isPassed().isEmpty()) {
-                        return TrackerColour.GREY; // Not graded yet
-                    }
-                    return exam.isPassed().get() ? TrackerColour.GREEN : TrackerColour.RED;
-                })
-                .collect(Collectors.toList());
+    public List<TrackerColour> getTrackerColours(Week currentWeek) {
+        List<TrackerColour> colours = new ArrayList<>(VALID_EXAM_NAMES.length);
+        for (int i = 0; i < VALID_EXAM_NAMES.length; i++) {
+            int bit = 1 << i;
+            if ((gradedMask & bit) == 0) {
+                colours.add(TrackerColour.GREY); // Not graded yet
+            } else {
+                colours.add((passedMask & bit) != 0 ? TrackerColour.GREEN : TrackerColour.RED);
+            }
+        }
+        return colours;
     }
     @Override
     public List<String> getLabels() {
-        return Arrays.stream(VALID_EXAM_NAMES)
-                .map(String::toUpperCase)
-                .toList();
+        return LABELS;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a student's attendance status for a single lab session.
  */
@@ -8,21 +10,17 @@ public class Lab implements LabAttendance {
     public static final int LAB_WEEK_DIFFERENCE = 2;
     private final int labNumber;
     private boolean isAttended;
-    private final boolean isPastWeek;
 
     /**
      * Constructs a {@code Lab} with the specified lab number and attendance initially set to false.
-     * The lab's past week status is determined by comparing the lab week with the current week.
      *
      * @param labNumber The lab number (must be positive and not exceed {@code LabList.NUMBER_OF_LABS})
-     * @param currentWeek The current week number in the semester
      */
-    public Lab(int labNumber, int currentWeek) {
+    public Lab(int labNumber) {
         assert labNumber > 0 : "Invalid lab number";
         assert labNumber <= LabList.NUMBER_OF_LABS : "Lab number exceeded the maximum amount";
         this.labNumber = labNumber;
         this.isAttended = false;
-        this.isPastWeek = (labNumber + LAB_WEEK_DIFFERENCE < currentWeek);
     }
 
     @Override
@@ -50,10 +48,11 @@ public class Lab implements LabAttendance {
         return labNumber;
     }
 
-    public String getStatus() {
+    @Override
+    public String getStatus(Week currentWeek) {
         if (isAttended) {
             return "Y";
-        } else if (isPastWeek) {
+        } else if (CompactLabList.isPastLab(labNumber - 1, currentWeek)) {
             return "A";
         } else {
             return "N";
@@ -77,6 +76,6 @@ public class Lab implements LabAttendance {
 
     @Override
     public String toString() {
-        return String.format("L%d: %s", labNumber, getStatus());
+        return String.format("L%d: %s", labNumber, isAttended ? "Y" : "N");
     }
 }
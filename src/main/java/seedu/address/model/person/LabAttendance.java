@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a lab attendance status.
  */
@@ -26,7 +28,7 @@ public interface LabAttendance {
     public int getLabNumber();
 
     /**
-     * @return the attendance status of the lab session
+     * @return the attendance status of the lab session in {@code currentWeek}
      */
-    public String getStatus();
+    public String getStatus(Week currentWeek);
 }
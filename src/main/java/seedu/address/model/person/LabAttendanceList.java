@@ -1,7 +1,10 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a collection of lab attendance statuses.
+ * Two lists are equal if the same labs are attended in both, however each list stores its attendance.
  */
 public interface LabAttendanceList extends Comparable<LabAttendanceList> , Trackable {
     /**
@@ -22,5 +25,17 @@ public interface LabAttendanceList extends Comparable<LabAttendanceList> , Track
      */
     public double calculateLabAttendance();
 
+    /**
+     * Returns the attendance status of the specified lab session in {@code currentWeek}.
+     * @param index the zero-based index of the lab session.
+     * @return "Y" if attended, "A" if absent past the marking window, "N" otherwise.
+     */
+    public String getLabStatus(int index, Week currentWeek);
+
+    /**
+     * Returns an independent copy of this list.
+     */
+    public LabAttendanceList copy();
+
     LabAttendance[] getLabs();
 }
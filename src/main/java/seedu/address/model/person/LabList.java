@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Week;
+
 /**
  * Represents a collection of lab attendance records for a student across all lab sessions.
  */
@@ -10,14 +13,22 @@ public class LabList implements LabAttendanceList {
     public static final int NUMBER_OF_LABS = 10;
     public static final String MESSAGE_CONSTRAINTS =
             "Lab attendance list should be in the format 'L1: Y/N ... L10: Y/N'";
-    private static int currentWeek = 0;
+    private static final String[] LAB_LABELS = createLabLabels();
     private final LabAttendance[] labs;
 
+    private static String[] createLabLabels() {
+        String[] labels = new String[NUMBER_OF_LABS];
+        for (int i = 0; i < NUMBER_OF_LABS; i++) {
+            labels[i] = "L" + (i + 1) + ":";
+        }
+        return labels;
+    }
+
     /**
      * Constructs a {@code LabList} with all labs initialized to not attended.
      */
     public LabList() {
-        this(createDefaultLabs(currentWeek));
+        this(createDefaultLabs());
     }
 
     /**
@@ -30,22 +41,14 @@ public class LabList implements LabAttendanceList {
         this.labs = labs;
     }
 
-    private static LabAttendance[] createDefaultLabs(int currentWeek) {
+    private static LabAttendance[] createDefaultLabs() {
         LabAttendance[] labAttendanceList = new LabAttendance[NUMBER_OF_LABS];
         for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            labAttendanceList[i] = new Lab(i + 1, currentWeek);
+            labAttendanceList[i] = new Lab(i + 1);
         }
         return labAttendanceList;
     }
 
-    public static int getCurrentWeek() {
-        return currentWeek;
-    }
-
-    public static void setCurrentWeek(int week) {
-        currentWeek = week;
-    }
-
     @Override
     public void markLabAsAttended(int index) {
         assert index >= 0 : "Index must be greater than zero (one based)";
@@ -66,17 +69,22 @@ public class LabList implements LabAttendanceList {
             return true;
         }
 
-        if (!(other instanceof LabList)) {
+        if (!(other instanceof LabAttendanceList)) {
             return false;
         }
 
-        LabList otherLabList = (LabList) other;
+        return CompactLabList.toAttendedMask(this) == CompactLabList.toAttendedMask((LabAttendanceList) other);
+    }
+
+    @Override
+    public int hashCode() {
+        int attendedMask = 0;
         for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            if (this.labs[i].isAttended() != otherLabList.labs[i].isAttended()) {
-                return false;
+            if (labs[i].isAttended()) {
+                attendedMask |= 1 << i;
             }
         }
-        return true;
+        return Integer.hashCode(attendedMask);
     }
 
     /**
@@ -84,11 +92,12 @@ public class LabList implements LabAttendanceList {
      *
      * @return a new LabList with copied attendance records
      */
+    @Override
     public LabList copy() {
         LabAttendance[] copiedLabs = new LabAttendance[NUMBER_OF_LABS];
         for (int i = 0; i < NUMBER_OF_LABS; i++) {
             Lab originalLab = (Lab) this.labs[i];
-            Lab newLab = new Lab(i + 1, currentWeek);
+            Lab newLab = new Lab(i + 1);
             if (originalLab.isAttended()) {
                 newLab.markAsAttended();
             }
@@ -114,33 +123,52 @@ public class LabList implements LabAttendanceList {
             return false;
         }
 
-        String trimmed = labListString.trim();
-        String[] parts = trimmed.split("\\s+");
-
-        // Each lab would have two parts (eg L1, Y)
-        if (parts.length != NUMBER_OF_LABS * 2) {
-            return false;
+        // Scans the labels and statuses in place rather than splitting the string, as this runs for every stored
+        // person. Accepts the same strings as trimming, splitting on \s+ and checking each label and status.
+        int end = labListString.length();
+        int index = 0;
+        while (index < end && labListString.charAt(index) <= ' ') {
+            index++;
+        }
+        while (end > index && labListString.charAt(end - 1) <= ' ') {
+            end--;
         }
 
         for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            String labLabel = parts[i * 2];
-            String status = parts[i * 2 + 1];
-
-            if (!labLabel.equals("L" + (i + 1) + ":")) {
+            if (i > 0) {
+                int labelStart = StringUtil.skipWhitespace(labListString, index, end);
+                if (labelStart == index) {
+                    return false;
+                }
+                index = labelStart;
+            }
+            if (!labListString.startsWith(LAB_LABELS[i], index)) {
                 return false;
             }
+            index += LAB_LABELS[i].length();
 
-            if (!status.equals("Y") && !status.equals("N") && !status.equals("A")) {
+            int statusStart = StringUtil.skipWhitespace(labListString, index, end);
+            if (statusStart == index || statusStart == end) {
+                return false;
+            }
+            char status = labListString.charAt(statusStart);
+            if (status != 'Y' && status != 'N' && status != 'A') {
                 return false;
             }
+            index = statusStart + 1;
         }
-        return true;
+        return index == end;
     }
 
     public LabAttendance[] getLabs() {
         return labs;
     }
 
+    @Override
+    public String getLabStatus(int index, Week currentWeek) {
+        return labs[index].getStatus(currentWeek);
+    }
+
     @Override
     public double calculateLabAttendance() {
         double count = 0;
@@ -157,10 +185,10 @@ public class LabList implements LabAttendanceList {
         return Double.compare(this.calculateLabAttendance(), other.calculateLabAttendance());
     }
     @Override
-    public List<TrackerColour> getTrackerColours() {
+    public List<TrackerColour> getTrackerColours(Week currentWeek) {
         List<TrackerColour> colours = new ArrayList<>();
         for (LabAttendance lab : labs) {
-            String status = lab.getStatus();
+            String status = lab.getStatus(currentWeek);
             TrackerColour colour = switch (status) {
             case "Y" -> TrackerColour.GREEN;
             case "A" -> TrackerColour.RED;
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -35,7 +37,17 @@ public class Name implements Comparable<Name> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for the same strings as VALIDATION_REGEX without running a regex
+        if (test.isEmpty() || !StringUtil.isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
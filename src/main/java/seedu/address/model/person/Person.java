@@ -41,7 +41,7 @@ public class Person {
         this.tags.addAll(tags);
         this.exerciseTracker = new ExerciseTracker();
         this.githubUsername = githubUsername;
-        this.labAttendanceList = new LabList();
+        this.labAttendanceList = new CompactLabList();
         this.gradeMap = new GradeMap();
     }
 
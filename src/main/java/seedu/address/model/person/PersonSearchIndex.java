@@ -0,0 +1,784 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Week;
+import seedu.address.model.person.predicates.QueryPlan;
+import seedu.address.model.person.predicates.SearchablePredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the searchable fields of the persons in a list, so that the persons whose field contains a keyword can be
+ * found without reading every person.
+ *
+ * Each field's value is split into lowercase tokens at whitespace, and every person is posted under the tokens of
+ * each of its fields. A keyword without whitespace is contained in a field exactly when it is contained in one of the
+ * field's tokens, so a search only has to check the distinct tokens. Those are narrowed down further by posting each
+ * token under the trigrams (three character substrings) it contains: only tokens that have every trigram of a keyword
+ * can contain the keyword. Keywords shorter than a trigram are checked against every distinct token of the field,
+ * which is still far fewer than the persons for fields such as names and tags that many persons share.
+ *
+ * The index also keeps a bitmap of slots for each exercise and lab: the persons who have done the exercise and
+ * attended the lab. Statuses that depend on the current week, such as
+ * overdue exercises and absent labs, are derived from those bitmaps when they are looked up, so changing the week
+ * does not touch the index.
+ *
+ * The index is built from its list the first time it is searched and then kept up to date by its list, which must
+ * call {@link #add}, {@link #remove} and {@link #invalidate} before changing its contents. Each person is given a
+ * slot, and search results are {@code BitSet}s of slots.
+ */
+public class PersonSearchIndex {
+
+    /**
+     * The fields of a person that can be searched.
+     */
+    public enum Field {
+        STUDENT_ID, NAME, EMAIL, GITHUB_USERNAME, PHONE, TAG
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(PersonSearchIndex.class);
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int PACKED_CHAR_LIMIT = 1 << 10;
+    private static final int HASHED_TRIGRAM_FLAG = 1 << 30;
+
+    private final List<Person> persons;
+    private final Map<StudentId, Integer> slots = new HashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final IntList freeSlots = new IntList();
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+    private final StatusIndex statusIndex = new StatusIndex();
+    private boolean isBuilt;
+    private long version;
+
+    /**
+     * Creates an index of {@code persons}, which must stay the same list for the life of the index.
+     */
+    public PersonSearchIndex(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex());
+        }
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int size() {
+        build();
+        return slots.size();
+    }
+
+    /**
+     * Returns the number of persons who attended exactly {@code labCount} labs.
+     */
+    public int countByLabsAttended(int labCount) {
+        build();
+        return statusIndex.countsByLabsAttended[labCount];
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed persons change, so that search results can be reused until
+     * then.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indexes {@code person}, which is about to be added to the list.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        version++;
+        if (isBuilt) {
+            index(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which is about to be removed from the list, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        version++;
+        if (!isBuilt) {
+            return;
+        }
+        Integer slot = slots.remove(person.getStudentId());
+        if (slot == null) {
+            return;
+        }
+        for (Field field : Field.values()) {
+            fieldIndexes.get(field).remove(getTokens(person, field), slot);
+        }
+        statusIndex.remove(slot);
+        personsBySlot.set(slot, null);
+        freeSlots.add(slot);
+    }
+
+    /**
+     * Records that something the persons' statuses are derived from, such as the current week, has changed, so that
+     * earlier search results are not reused.
+     */
+    public void refresh() {
+        version++;
+    }
+
+    /**
+     * Discards the index because most or all of the list is about to be replaced. It is rebuilt from the list when
+     * it is next searched.
+     */
+    public void invalidate() {
+        version++;
+        if (!isBuilt) {
+            return;
+        }
+        isBuilt = false;
+        slots.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        for (FieldIndex fieldIndex : fieldIndexes.values()) {
+            fieldIndex.clear();
+        }
+        statusIndex.clear();
+    }
+
+    /**
+     * Returns the slots of the persons whose {@code field} contains any of {@code keywords}, ignoring case.
+     * As tokens never contain whitespace, a keyword that does cannot be looked up, and every person is returned
+     * for it instead.
+     */
+    public BitSet find(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        build();
+        BitSet matches = new BitSet();
+        for (String keyword : keywords) {
+            if (keyword.chars().anyMatch(Character::isWhitespace)) {
+                matches.set(0, slots.size() + freeSlots.size());
+                return matches;
+            }
+            fieldIndexes.get(field).find(keyword.toLowerCase(), matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the slots of the persons whose exercise with the given zero-based number has {@code status} in
+     * {@code currentWeek}.
+     */
+    public BitSet findExerciseStatus(int exerciseNumber, Status status, Week currentWeek) {
+        requireAllNonNull(status, currentWeek);
+        build();
+        BitSet doneSlots = statusIndex.doneSlots[exerciseNumber];
+        if (status == Status.DONE) {
+            return (BitSet) doneSlots.clone();
+        }
+        boolean isOverdueIfNotDone = ExerciseTracker.isPastDeadline(exerciseNumber, currentWeek);
+        return (status == Status.OVERDUE) == isOverdueIfNotDone ? statusIndex.findMissing(doneSlots) : new BitSet();
+    }
+
+    /**
+     * Returns the slots of the persons whose lab with the given zero-based index has {@code status}, one of "Y", "A"
+     * and "N", in {@code currentWeek}.
+     */
+    public BitSet findLabStatus(int labIndex, String status, Week currentWeek) {
+        requireAllNonNull(status, currentWeek);
+        build();
+        BitSet attendedSlots = statusIndex.attendedSlots[labIndex];
+        if (status.equals("Y")) {
+            return (BitSet) attendedSlots.clone();
+        }
+        boolean isAbsentIfNotAttended = CompactLabList.isPastLab(labIndex, currentWeek);
+        return status.equals("A") == isAbsentIfNotAttended ? statusIndex.findMissing(attendedSlots) : new BitSet();
+    }
+
+    /**
+     * Returns true if {@code person} is in the list and its slot is set in {@code slotSet}.
+     */
+    public boolean isInSlots(Person person, BitSet slotSet) {
+        build();
+        Integer slot = slots.get(person.getStudentId());
+        return slot != null && slotSet.get(slot);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons this index finds for it, as
+     * planned by {@link SearchablePredicate#plan}. The plan is made again whenever the list has changed since it was
+     * last made, and is logged at {@code FINE} level.
+     */
+    public Predicate<Person> narrow(SearchablePredicate predicate) {
+        requireNonNull(predicate);
+        return new NarrowedPredicate(predicate);
+    }
+
+    /**
+     * Returns the persons in {@code slotSet}, compared by identity so that testing whether a person of the list is
+     * among them does not have to look up its slot.
+     */
+    private Set<Person> getPersonsInSlots(BitSet slotSet) {
+        Set<Person> slotPersons = Collections.newSetFromMap(new IdentityHashMap<>(slotSet.cardinality()));
+        for (int slot = slotSet.nextSetBit(0); slot >= 0 && slot < personsBySlot.size();
+                slot = slotSet.nextSetBit(slot + 1)) {
+            Person person = personsBySlot.get(slot);
+            if (person != null) {
+                slotPersons.add(person);
+            }
+        }
+        return slotPersons;
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        for (Person person : persons) {
+            index(person);
+        }
+    }
+
+    private void index(Person person) {
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.removeLast();
+        slots.put(person.getStudentId(), slot);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        for (Field field : Field.values()) {
+            fieldIndexes.get(field).add(getTokens(person, field), slot);
+        }
+        statusIndex.add(person, slot);
+    }
+
+    /**
+     * Returns the distinct lowercase tokens of {@code field} of {@code person}.
+     */
+    private static List<String> getTokens(Person person, Field field) {
+        List<String> tokens = new ArrayList<>(1);
+        switch (field) {
+        case STUDENT_ID:
+            addTokens(person.getStudentId().value, tokens);
+            break;
+        case NAME:
+            addTokens(person.getName().fullName, tokens);
+            break;
+        case EMAIL:
+            addTokens(person.getEmail().value, tokens);
+            break;
+        case GITHUB_USERNAME:
+            addTokens(person.getGithubUsername().value, tokens);
+            break;
+        case PHONE:
+            addTokens(person.getPhone().value, tokens);
+            break;
+        case TAG:
+            for (Tag tag : person.getTags()) {
+                addTokens(tag.getTagName(), tokens);
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+        return tokens;
+    }
+
+    private static void addTokens(String value, List<String> tokens) {
+        String lowerCaseValue = value.toLowerCase();
+        int start = 0;
+        for (int i = 0; i <= lowerCaseValue.length(); i++) {
+            if (i == lowerCaseValue.length() || Character.isWhitespace(lowerCaseValue.charAt(i))) {
+                // A field is only a few tokens long, so a linear check for duplicates is cheapest
+                String token = lowerCaseValue.substring(start, i);
+                if (i > start && !tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns a key for the three characters of {@code text} from {@code start}. Trigrams of characters below
+     * {@code U+0400} are packed into distinct keys, and other trigrams are hashed, so rare trigrams may share a key.
+     * That only makes a search check more tokens.
+     */
+    private static int getTrigram(String text, int start) {
+        char first = text.charAt(start);
+        char second = text.charAt(start + 1);
+        char third = text.charAt(start + 2);
+        if ((first | second | third) < PACKED_CHAR_LIMIT) {
+            return first << 20 | second << 10 | third;
+        }
+        return HASHED_TRIGRAM_FLAG | ((first * 31 + second) * 31 + third) & ~HASHED_TRIGRAM_FLAG;
+    }
+
+    /**
+     * Mixes the bits of {@code hash} so that its low bits can index an open addressing table.
+     */
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * The postings of one field. Tokens are given ids in the order they are first seen, so every trigram's list of
+     * token ids is sorted. The slots of each token's persons are kept as a chain through shared arrays rather than
+     * a list per token, as most tokens of fields such as emails belong to a single person. Tokens that no person has
+     * any more are kept until the index is rebuilt.
+     */
+    private static class FieldIndex {
+        private static final int NONE = -1;
+
+        private final TokenTable tokenIds = new TokenTable();
+        private final List<String> tokens = new ArrayList<>();
+        private final IntList firstPostings = new IntList();
+        private final IntList postingSlots = new IntList();
+        private final IntList nextPostings = new IntList();
+        private final TrigramTable tokenIdsByTrigram = new TrigramTable();
+        private int firstFreePosting = NONE;
+
+        void add(List<String> personTokens, int slot) {
+            for (String token : personTokens) {
+                int tokenId = tokenIds.get(token);
+                if (tokenId == NONE) {
+                    tokenId = addToken(token);
+                }
+                addPosting(tokenId, slot);
+            }
+        }
+
+        void remove(List<String> personTokens, int slot) {
+            for (String token : personTokens) {
+                int tokenId = tokenIds.get(token);
+                if (tokenId != NONE) {
+                    removePosting(tokenId, slot);
+                }
+            }
+        }
+
+        void clear() {
+            tokenIds.clear();
+            tokens.clear();
+            firstPostings.clear();
+            postingSlots.clear();
+            nextPostings.clear();
+            tokenIdsByTrigram.clear();
+            firstFreePosting = NONE;
+        }
+
+        /**
+         * Sets the slots of the persons with a token containing {@code keyword}, which is in lowercase, in
+         * {@code matches}.
+         */
+        void find(String keyword, BitSet matches) {
+            if (keyword.length() < TRIGRAM_LENGTH) {
+                for (int tokenId = 0; tokenId < tokens.size(); tokenId++) {
+                    addMatches(tokenId, keyword, matches);
+                }
+                return;
+            }
+            IntList candidates = findTokensWithAllTrigrams(keyword);
+            for (int i = 0; i < candidates.size(); i++) {
+                addMatches(candidates.get(i), keyword, matches);
+            }
+        }
+
+        private int addToken(String token) {
+            int tokenId = tokens.size();
+            tokenIds.put(token, tokenId);
+            tokens.add(token);
+            firstPostings.add(NONE);
+            for (int i = 0; i + TRIGRAM_LENGTH <= token.length(); i++) {
+                IntList tokenIdsWithTrigram = tokenIdsByTrigram.getOrAdd(getTrigram(token, i));
+                // A token with a repeated trigram is only posted under it once
+                if (tokenIdsWithTrigram.isEmpty() || tokenIdsWithTrigram.getLast() != tokenId) {
+                    tokenIdsWithTrigram.add(tokenId);
+                }
+            }
+            return tokenId;
+        }
+
+        private void addPosting(int tokenId, int slot) {
+            int posting;
+            if (firstFreePosting == NONE) {
+                posting = postingSlots.size();
+                postingSlots.add(slot);
+                nextPostings.add(firstPostings.get(tokenId));
+            } else {
+                posting = firstFreePosting;
+                firstFreePosting = nextPostings.get(posting);
+                postingSlots.set(posting, slot);
+                nextPostings.set(posting, firstPostings.get(tokenId));
+            }
+            firstPostings.set(tokenId, posting);
+        }
+
+        private void removePosting(int tokenId, int slot) {
+            int previous = NONE;
+            for (int posting = firstPostings.get(tokenId); posting != NONE; posting = nextPostings.get(posting)) {
+                if (postingSlots.get(posting) != slot) {
+                    previous = posting;
+                    continue;
+                }
+                if (previous == NONE) {
+                    firstPostings.set(tokenId, nextPostings.get(posting));
+                } else {
+                    nextPostings.set(previous, nextPostings.get(posting));
+                }
+                nextPostings.set(posting, firstFreePosting);
+                firstFreePosting = posting;
+                return;
+            }
+        }
+
+        private void addMatches(int tokenId, String keyword, BitSet matches) {
+            if (!tokens.get(tokenId).contains(keyword)) {
+                return;
+            }
+            for (int posting = firstPostings.get(tokenId); posting != NONE; posting = nextPostings.get(posting)) {
+                matches.set(postingSlots.get(posting));
+            }
+        }
+
+        /**
+         * Returns the ids of the tokens that have every trigram of {@code keyword}, intersecting the shortest lists
+         * first.
+         */
+        private IntList findTokensWithAllTrigrams(String keyword) {
+            List<IntList> lists = new ArrayList<>();
+            for (int i = 0; i + TRIGRAM_LENGTH <= keyword.length(); i++) {
+                IntList tokenIdsWithTrigram = tokenIdsByTrigram.get(getTrigram(keyword, i));
+                if (tokenIdsWithTrigram == null) {
+                    return new IntList();
+                }
+                lists.add(tokenIdsWithTrigram);
+            }
+            lists.sort((first, second) -> Integer.compare(first.size(), second.size()));
+            IntList result = lists.get(0);
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result = result.intersect(lists.get(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Maps tokens to their ids with open addressing, so that a token costs no objects beyond its string.
+     */
+    private static class TokenTable {
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        private String[] keys = new String[INITIAL_CAPACITY];
+        private int[] ids = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Returns the id of {@code token}, or {@link FieldIndex#NONE} if it has none.
+         */
+        int get(String token) {
+            int mask = keys.length - 1;
+            for (int i = spread(token.hashCode()) & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (keys[i].equals(token)) {
+                    return ids[i];
+                }
+            }
+            return FieldIndex.NONE;
+        }
+
+        /**
+         * Gives {@code token}, which has no id yet, the id {@code id}.
+         */
+        void put(String token, int id) {
+            int mask = keys.length - 1;
+            int i = spread(token.hashCode()) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = token;
+            ids[i] = id;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        void clear() {
+            keys = new String[INITIAL_CAPACITY];
+            ids = new int[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void resize() {
+            String[] oldKeys = keys;
+            int[] oldIds = ids;
+            keys = new String[oldKeys.length * 2];
+            ids = new int[oldIds.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == null) {
+                    continue;
+                }
+                int i = spread(oldKeys[j].hashCode()) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                ids[i] = oldIds[j];
+            }
+        }
+    }
+
+    /**
+     * Maps trigram keys to lists of token ids with open addressing, as boxing every key to look it up in a
+     * {@code HashMap} costs more than the rest of indexing a token.
+     */
+    private static class TrigramTable {
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        private int[] keys = new int[INITIAL_CAPACITY];
+        private IntList[] values = new IntList[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Returns the list for {@code key}, or null if there is none.
+         */
+        IntList get(int key) {
+            int mask = keys.length - 1;
+            for (int i = spread(key) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the list for {@code key}, adding an empty one if there is none.
+         */
+        IntList getOrAdd(int key) {
+            int mask = keys.length - 1;
+            int i = spread(key) & mask;
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            IntList value = new IntList();
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return value;
+        }
+
+        void clear() {
+            keys = new int[INITIAL_CAPACITY];
+            values = new IntList[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            IntList[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new IntList[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] == null) {
+                    continue;
+                }
+                int i = spread(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * The bitmaps of slots that statuses are looked up in. Bit {@code i} of the done and attended masks of a person
+     * is copied to the bitmap for exercise or lab {@code i}.
+     */
+    private static class StatusIndex {
+        private final BitSet occupiedSlots = new BitSet();
+        private final BitSet[] doneSlots = createBitSets(ExerciseTracker.NUMBER_OF_EXERCISES);
+        private final BitSet[] attendedSlots = createBitSets(LabList.NUMBER_OF_LABS);
+        private final int[] countsByLabsAttended = new int[LabList.NUMBER_OF_LABS + 1];
+
+        void add(Person person, int slot) {
+            occupiedSlots.set(slot);
+            setSlot(doneSlots, person.getExerciseTracker().getDoneMask(), slot);
+            int attendedMask = CompactLabList.toAttendedMask(person.getLabAttendanceList());
+            setSlot(attendedSlots, attendedMask, slot);
+            countsByLabsAttended[Integer.bitCount(attendedMask)]++;
+        }
+
+        /**
+         * Clears {@code slot} from every bitmap, without reading the person in it, whose statuses may have been
+         * changed in place since it was added.
+         */
+        void remove(int slot) {
+            int labCount = 0;
+            for (BitSet bitmap : attendedSlots) {
+                labCount += bitmap.get(slot) ? 1 : 0;
+            }
+            countsByLabsAttended[labCount]--;
+            occupiedSlots.clear(slot);
+            for (BitSet[] bitmaps : List.of(doneSlots, attendedSlots)) {
+                for (BitSet bitmap : bitmaps) {
+                    bitmap.clear(slot);
+                }
+            }
+        }
+
+        void clear() {
+            occupiedSlots.clear();
+            Arrays.fill(countsByLabsAttended, 0);
+            for (BitSet[] bitmaps : List.of(doneSlots, attendedSlots)) {
+                for (BitSet bitmap : bitmaps) {
+                    bitmap.clear();
+                }
+            }
+        }
+
+        /**
+         * Returns the occupied slots that are not set in {@code slotSet}.
+         */
+        BitSet findMissing(BitSet slotSet) {
+            BitSet missing = (BitSet) occupiedSlots.clone();
+            missing.andNot(slotSet);
+            return missing;
+        }
+
+        private static BitSet[] createBitSets(int count) {
+            BitSet[] bitSets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                bitSets[i] = new BitSet();
+            }
+            return bitSets;
+        }
+
+        private static void setSlot(BitSet[] bitmaps, int mask, int slot) {
+            for (int i = 0; i < bitmaps.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    bitmaps[i].set(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * A growable list of ints, to keep postings compact.
+     */
+    private static class IntList {
+        private int[] values = new int[1];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int getLast() {
+            return values[size - 1];
+        }
+
+        int removeLast() {
+            return values[--size];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        /**
+         * Returns the values in both this and {@code other}, which must both be sorted.
+         */
+        IntList intersect(IntList other) {
+            IntList result = new IntList();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result.add(values[i]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Tests persons with a {@code SearchablePredicate} after ruling out those the index did not find for it, in the
+     * order its plan chose.
+     */
+    private class NarrowedPredicate implements Predicate<Person> {
+        private final SearchablePredicate predicate;
+        private QueryPlan plan;
+        private Optional<Set<Person>> candidates = Optional.empty();
+        private long candidatesVersion = -1;
+
+        NarrowedPredicate(SearchablePredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (candidatesVersion != version) {
+                plan = predicate.plan(PersonSearchIndex.this);
+                logger.fine(plan::getReport);
+                candidates = plan.getCandidates().map(slotSet -> getPersonsInSlots(slotSet));
+                candidatesVersion = version;
+            }
+            if (candidates.isPresent() && !candidates.get().contains(person)) {
+                return false;
+            }
+            return plan.test(person);
+        }
+    }
+}
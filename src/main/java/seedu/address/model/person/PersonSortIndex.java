@@ -0,0 +1,185 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.person.sortcriterion.SortCriterion;
+import seedu.address.model.person.sortcriterion.SortKey;
+import seedu.address.model.person.sortcriterion.StudentIdSortCriterion;
+
+/**
+ * An index that keeps the persons of a list in the order of each {@code SortCriterion} they have been sorted by, so
+ * that sorting them again takes a single pass over the index instead of comparing every person again.
+ *
+ * The index holds each person's {@code SortKey} for every criterion, computed once when the person is added, and
+ * orders persons by their keys and then by their student IDs. The order for a criterion is only built once the
+ * persons are first sorted by it, and every built order is updated as persons are added, replaced and removed.
+ * Sort keys do not depend on the current week, so changing the week leaves the index as it is.
+ */
+public class PersonSortIndex {
+
+    private static final SortCriterion ID_CRITERION = new StudentIdSortCriterion();
+
+    private final List<Person> persons;
+    private final Map<SortCriterion, Order> orders = new HashMap<>();
+
+    /**
+     * Creates an index of {@code persons}, which it reads whenever it has to build an order.
+     */
+    public PersonSortIndex(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Adds {@code person} to every order that has been built.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Order order : orders.values()) {
+            order.add(person);
+        }
+    }
+
+    /**
+     * Removes the person with the same student ID as {@code person} from every order that has been built.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Order order : orders.values()) {
+            order.remove(person.getStudentId());
+        }
+    }
+
+    /**
+     * Discards every order, e.g. when the whole list has been replaced.
+     */
+    public void invalidate() {
+        orders.clear();
+    }
+
+    /**
+     * Returns the persons in the order of {@code criterion}, building that order first if it has not been built.
+     */
+    public List<Person> getOrder(SortCriterion criterion) {
+        requireNonNull(criterion);
+        Order order = orders.computeIfAbsent(criterion, this::buildOrder);
+        List<Person> sorted = new ArrayList<>(order.entries.size());
+        for (Entry entry : order.entries) {
+            sorted.add(entry.person);
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the first {@code count} persons in the order of {@code criterion}, or the last {@code count} persons
+     * from the end if {@code isFromEnd}, or every person if there are fewer. If the order has been built, they are
+     * read off it. Otherwise the best persons seen so far are kept in a heap of at most {@code count} entries, which
+     * takes O(n log count) time and leaves the order unbuilt.
+     */
+    public List<Person> getRanked(SortCriterion criterion, int count, boolean isFromEnd) {
+        requireNonNull(criterion);
+        checkArgument(count >= 0, "The number of persons to rank must not be negative");
+        Order order = orders.get(criterion);
+        if (order != null) {
+            int size = order.entries.size();
+            List<Person> ranked = new ArrayList<>(Math.min(count, size));
+            for (int i = 0; i < Math.min(count, size); i++) {
+                ranked.add(order.entries.get(isFromEnd ? size - 1 - i : i).person);
+            }
+            return ranked;
+        }
+
+        Comparator<Entry> ranking = isFromEnd ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        // The worst of the persons kept is on top of the heap, to be replaced by any better person
+        PriorityQueue<Entry> kept = new PriorityQueue<>(Math.min(count, persons.size()) + 1, ranking.reversed());
+        for (Person person : persons) {
+            Entry entry = new Entry(criterion.getSortKey(person), person);
+            if (kept.size() < count) {
+                kept.add(entry);
+            } else if (count > 0 && ranking.compare(entry, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(entry);
+            }
+        }
+        List<Entry> rankedEntries = new ArrayList<>(kept);
+        rankedEntries.sort(ranking);
+        List<Person> ranked = new ArrayList<>(rankedEntries.size());
+        for (Entry entry : rankedEntries) {
+            ranked.add(entry.person);
+        }
+        return ranked;
+    }
+
+    private Order buildOrder(SortCriterion criterion) {
+        List<Entry> entries = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            entries.add(new Entry(criterion.getSortKey(person), person));
+        }
+        entries.sort(null);
+        return new Order(criterion, entries);
+    }
+
+    /**
+     * The persons in the order of one criterion, as a sorted list of entries that persons are inserted into and
+     * removed from by binary search, with the entry of each person by student ID so that a person can be removed
+     * without recomputing its key.
+     */
+    private static class Order {
+        private final SortCriterion criterion;
+        private final List<Entry> entries;
+        private final Map<StudentId, Entry> entriesById;
+
+        Order(SortCriterion criterion, List<Entry> entries) {
+            this.criterion = criterion;
+            this.entries = entries;
+            entriesById = new HashMap<>(entries.size() * 2);
+            for (Entry entry : entries) {
+                entriesById.put(entry.person.getStudentId(), entry);
+            }
+        }
+
+        void add(Person person) {
+            Entry entry = new Entry(criterion.getSortKey(person), person);
+            entries.add(-Collections.binarySearch(entries, entry) - 1, entry);
+            entriesById.put(person.getStudentId(), entry);
+        }
+
+        void remove(StudentId studentId) {
+            Entry entry = entriesById.remove(studentId);
+            if (entry != null) {
+                entries.remove(Collections.binarySearch(entries, entry));
+            }
+        }
+    }
+
+    /**
+     * A person decorated with its sort key, and with the key of its student ID to break ties, which is much cheaper
+     * to compare than the student ID itself.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final SortKey key;
+        private final SortKey idKey;
+        private final Person person;
+
+        Entry(SortKey key, Person person) {
+            this.key = key;
+            this.idKey = ID_CRITERION.getSortKey(person);
+            this.person = person;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byKey = key.compareTo(other.key);
+            return byKey != 0 ? byKey : idKey.compareTo(other.idKey);
+        }
+    }
+}
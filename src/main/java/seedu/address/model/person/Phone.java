@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -30,7 +32,16 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for the same strings as VALIDATION_REGEX without running a regex
+        if (test.length() < 3) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
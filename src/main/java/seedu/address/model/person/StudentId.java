@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's student ID in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
@@ -35,7 +37,17 @@ public class StudentId implements Comparable<StudentId> {
      * Returns true if a given string is a valid student ID.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for the same strings as VALIDATION_REGEX without running a regex
+        if (test.length() != 9 || (test.charAt(0) != 'A' && test.charAt(0) != 'a')) {
+            return false;
+        }
+        for (int i = 1; i < 8; i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        char last = test.charAt(8);
+        return (last >= 'A' && last <= 'Z') || (last >= 'a' && last <= 'z');
     }
 
     @Override
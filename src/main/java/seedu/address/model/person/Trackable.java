@@ -2,11 +2,16 @@ package seedu.address.model.person;
 
 import java.util.List;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a data structure wrapper that is tracked on the person card.
  */
 public interface Trackable {
-    List<TrackerColour> getTrackerColours();
+    /**
+     * Returns the colour of each tracked item in {@code currentWeek}.
+     */
+    List<TrackerColour> getTrackerColours(Week currentWeek);
 
     /**
      * Returns the list of label texts representing each tracked item.
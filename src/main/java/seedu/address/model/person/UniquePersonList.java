@@ -3,14 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.jfr.ModelMutationEvent;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.sortcriterion.SortCriterion;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,7 +25,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Identity lookups go through a {@code StudentId} to position index
+ * that is kept in step with the backing list, so {@code contains}, {@code setPerson} and {@code remove} do not
+ * scan the list. The persons' searchable fields are indexed in a {@code PersonSearchIndex} that is likewise kept in
+ * step, for finding persons by keyword, and their orders by each sort criterion in a {@code PersonSortIndex}. Their
+ * class-wide counts of completed exercises, attended labs and passed exams are kept in {@code ClassStatistics}.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,13 +38,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Integer> positionsById = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(internalUnmodifiableList);
+    private final PersonSortIndex sortIndex = new PersonSortIndex(internalUnmodifiableList);
+    private final ClassStatistics statistics = new ClassStatistics(internalUnmodifiableList, searchIndex);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsById.containsKey(toCheck.getStudentId());
+    }
+
+    /**
+     * Returns the person with the given student ID, if any.
+     */
+    public Optional<Person> get(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer index = positionsById.get(studentId);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -46,6 +69,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionsById.put(toAdd.getStudentId(), internalList.size());
+        searchIndex.add(toAdd);
+        sortIndex.add(toAdd);
+        statistics.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -57,7 +84,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,18 +93,36 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positionsById.remove(target.getStudentId());
+        positionsById.put(editedPerson.getStudentId(), index);
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        sortIndex.remove(target);
+        sortIndex.add(editedPerson);
+        statistics.remove(target);
+        statistics.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * Finding the person is O(1), but removal stays O(n) because the list is an {@code ArrayList}: the persons after
+     * it shift down by one and their recorded positions are refreshed.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positionsById.remove(toRemove.getStudentId());
+        searchIndex.remove(toRemove);
+        sortIndex.remove(toRemove);
+        statistics.remove(toRemove);
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
     /**
@@ -85,12 +130,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.PERSONS, "sort");
         FXCollections.sort(internalList, comparator);
+        reindexFrom(0);
+        event.end(internalList.size());
+    }
+
+    /**
+     * Sorts the list of persons by {@code criterion}, in the order kept by the sort index.
+     */
+    public void sort(SortCriterion criterion) {
+        requireNonNull(criterion);
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.PERSONS, "sort");
+        internalList.setAll(sortIndex.getOrder(criterion));
+        reindexFrom(0);
+        event.end(internalList.size());
+    }
+
+    /**
+     * Returns the first {@code count} persons in the order of {@code criterion}, or the last {@code count} persons
+     * from the end if {@code isFromEnd}, without reordering the list.
+     */
+    public List<Person> getRanked(SortCriterion criterion, int count, boolean isFromEnd) {
+        return sortIndex.getRanked(criterion, count, isFromEnd);
+    }
+
+    /**
+     * Notifies listeners that every person in the list should be re-read, without changing the contents.
+     * Used when something that persons' derived fields depend on, such as the current week, has changed.
+     */
+    public void refresh() {
+        searchIndex.refresh();
+        internalList.setAll(new ArrayList<>(internalList));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.PERSONS, "set");
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        searchIndex.invalidate();
+        sortIndex.invalidate();
+        statistics.invalidate();
         internalList.setAll(replacement.internalList);
+        event.end(internalList.size());
     }
 
     /**
@@ -99,11 +182,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        ModelMutationEvent event = ModelMutationEvent.begin(ModelMutationEvent.PERSONS, "set");
+        Map<StudentId, Integer> replacementPositions = indexPersons(persons);
 
+        positionsById.clear();
+        positionsById.putAll(replacementPositions);
+        searchIndex.invalidate();
+        sortIndex.invalidate();
+        statistics.invalidate();
         internalList.setAll(persons);
+        event.end(internalList.size());
+    }
+
+    /**
+     * Returns the index for searching the fields of the persons in this list, which the list keeps up to date.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the class-wide statistics of the persons in this list, which the list keeps up to date.
+     */
+    public ClassStatistics getStatistics() {
+        return statistics;
     }
 
     /**
@@ -144,16 +246,37 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person that is equal to {@code person}, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer index = positionsById.get(person.getStudentId());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Refreshes the recorded positions of every person from {@code start} to the end of the list, in O(n - start).
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getStudentId(), i);
+        }
+    }
+
+    /**
+     * Returns the position index of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<StudentId, Integer> indexPersons(List<Person> persons) {
+        Map<StudentId, Integer> positions = new HashMap<>(persons.size() * 2);
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.putIfAbsent(persons.get(i).getStudentId(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return positions;
     }
 }
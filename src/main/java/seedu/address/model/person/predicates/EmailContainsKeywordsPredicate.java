@@ -1,17 +1,19 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements SearchablePredicate {
     private final List<String> keywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
@@ -26,6 +28,16 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(email::contains);
     }
 
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex index) {
+        return Optional.of(index.find(PersonSearchIndex.Field.EMAIL, keywords));
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size() * KEYWORD_TEST_COST;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,25 +1,30 @@
 package seedu.address.model.person.predicates;
 
-import java.util.List;
-import java.util.function.Predicate;
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.Status;
 
 
 /**
  * Tests that a {@code Person}'s {@code Exercise status} matches the status of the exercise stated.
  */
-public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
+public class ExerciseStatusMatchesPredicate implements SearchablePredicate, WeekRelativePredicate {
     private Status status;
     private Index index;
+    private Week currentWeek;
 
     /**
      * Constructs a predicate that matches a {@code Person} if their {@code Exericse} status
-     * matches the status of the exercise stated.
+     * matches the status of the exercise stated. It must be bound to a week with {@link #atWeek} before it is tested.
      *
      * @param index {@code Index} of the exercise you are trying to filter for.
      * @param status {@code Status} of the exercise chosen.
@@ -29,12 +34,45 @@ public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
         this.status = status;
     }
 
+    /**
+     * Constructs a predicate that matches a {@code Person} if their {@code Exericse} status
+     * in {@code currentWeek} matches the status of the exercise stated.
+     */
+    public ExerciseStatusMatchesPredicate(Index index, Status status, Week currentWeek) {
+        this(index, status);
+        this.currentWeek = requireNonNull(currentWeek);
+    }
+
+    @Override
+    public ExerciseStatusMatchesPredicate atWeek(Week currentWeek) {
+        return new ExerciseStatusMatchesPredicate(index, status, currentWeek);
+    }
+
     @Override
     public boolean test(Person person) {
-        ExerciseTracker exerciseTracker = person.getExerciseTracker();
-        List<Status> exercises = exerciseTracker.getStatuses();
-        int number = index.getZeroBased();
-        return exercises.get(number).equals(status);
+        return person.getExerciseTracker().getStatus(index.getZeroBased(), getWeek()).equals(status);
+    }
+
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex searchIndex) {
+        return Optional.of(searchIndex.findExerciseStatus(index.getZeroBased(), status, getWeek()));
+    }
+
+    private Week getWeek() {
+        if (currentWeek == null) {
+            throw new IllegalStateException("Exercise status predicate has not been bound to a week");
+        }
+        return currentWeek;
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    @Override
+    public double getTestCost() {
+        return STATUS_TEST_COST;
     }
 
     @Override
@@ -50,7 +88,8 @@ public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
 
         ExerciseStatusMatchesPredicate otherPredicate = (ExerciseStatusMatchesPredicate) other;
         return status.equals(otherPredicate.status)
-                && index.equals(otherPredicate.index);
+                && index.equals(otherPredicate.index)
+                && Objects.equals(currentWeek, otherPredicate.currentWeek);
     }
 
     @Override
@@ -58,6 +97,7 @@ public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
         return new ToStringBuilder(this)
                 .add("Status", status)
                 .add("index", index)
+                .add("currentWeek", currentWeek)
                 .toString();
     }
 }
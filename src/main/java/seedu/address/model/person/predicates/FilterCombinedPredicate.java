@@ -1,20 +1,24 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
- *  A {@code Predicate} over {@code Person} that AND-combines exercise and lab attendance predicates.
+ *  A {@code Predicate} over {@code Person} that AND-combines exercise, lab attendance and exam result predicates.
  */
-public class FilterCombinedPredicate implements Predicate<Person> {
+public class FilterCombinedPredicate implements SearchablePredicate, RefiningPredicate, WeekRelativePredicate {
 
     private Predicate<Person> combinedPredicate;
     private final List<Predicate<Person>> predicates;
 
     /**
-     * Constructs a predicate that matches a {@code Person} if any of the provided predicates match.
+     * Constructs a predicate that matches a {@code Person} if all of the provided predicates match.
      *
      * @param predicates a non-empty list of individual field {@code Predicate}
      *                  targeting different {@code Person} fields.
@@ -31,11 +35,57 @@ public class FilterCombinedPredicate implements Predicate<Person> {
         return List.copyOf(predicates);
     }
 
+    /**
+     * Returns a predicate combining the same predicates, with those that depend on the week bound to
+     * {@code currentWeek}.
+     */
+    @Override
+    public FilterCombinedPredicate atWeek(Week currentWeek) {
+        return new FilterCombinedPredicate(predicates.stream()
+                .map(predicate -> WeekRelativePredicate.bindToWeek(predicate, currentWeek))
+                .toList());
+    }
+
     @Override
     public boolean test(Person person) {
         return combinedPredicate.test(person);
     }
 
+    /**
+     * Returns the persons all of the predicates that can be looked up in {@code index} accept, if there are any such
+     * predicates. The rest only have to be tested on those persons.
+     */
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex index) {
+        return plan(index).getCandidates();
+    }
+
+    /**
+     * Returns a plan that looks up the predicates that can be looked up in {@code index} and tests the rest in order
+     * of how cheaply they rule persons out, rather than in the order they were given.
+     */
+    @Override
+    public QueryPlan plan(PersonSearchIndex index) {
+        return QueryPlan.planAll(predicates, index);
+    }
+
+    @Override
+    public double getTestCost() {
+        return QueryPlan.getTotalTestCost(predicates);
+    }
+
+    /**
+     * Returns true if {@code other} is one of the predicates combined here, or combines only predicates that are also
+     * combined here, e.g. when a filter has more conditions added to it.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<Person> other) {
+        if (other instanceof FilterCombinedPredicate) {
+            return predicates.containsAll(((FilterCombinedPredicate) other).predicates);
+        }
+        return predicates.contains(other);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,16 +1,18 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 
 /**
  * Tests that a {@code Person}'s {@code Github Username} matches any of the keywords given.
  */
-public class GithubContainsKeywordsPredicate implements Predicate<Person> {
+public class GithubContainsKeywordsPredicate implements SearchablePredicate {
     private final List<String> keywords;
 
     public GithubContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +27,16 @@ public class GithubContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(github::contains);
     }
 
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex index) {
+        return Optional.of(index.find(PersonSearchIndex.Field.GITHUB_USERNAME, keywords));
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size() * KEYWORD_TEST_COST;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,17 +1,20 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.helpers.Comparison;
 import seedu.address.model.person.LabAttendanceList;
+import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 
 /**
  * Tests that a {@code Person}'s {@code Github Username} matches any of the keywords given.
  */
-public class LabAttendanceMatchesPredicate implements Predicate<Person> {
+public class LabAttendanceMatchesPredicate implements PlannablePredicate {
+    /** Counting the attended labs and turning the count into a percentage costs about as much as four bits. */
+    private static final double TEST_COST = 4 * STATUS_TEST_COST;
+
     private final double value;
     private final Comparison comparison;
 
@@ -29,7 +32,33 @@ public class LabAttendanceMatchesPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         LabAttendanceList attendaceList = person.getLabAttendanceList();
-        double labAttendance = attendaceList.calculateLabAttendance();
+        return isMatch(attendaceList.calculateLabAttendance());
+    }
+
+    /**
+     * Estimates the fraction of persons in {@code index} this predicate accepts from how many persons attended each
+     * number of labs.
+     */
+    @Override
+    public double estimateSelectivity(PersonSearchIndex index) {
+        if (index.size() == 0) {
+            return UNKNOWN_SELECTIVITY;
+        }
+        int matchCount = 0;
+        for (int labCount = 0; labCount <= LabList.NUMBER_OF_LABS; labCount++) {
+            if (isMatch((double) labCount / LabList.NUMBER_OF_LABS * 100)) {
+                matchCount += index.countByLabsAttended(labCount);
+            }
+        }
+        return (double) matchCount / index.size();
+    }
+
+    @Override
+    public double getTestCost() {
+        return TEST_COST;
+    }
+
+    private boolean isMatch(double labAttendance) {
         switch (comparison) {
         case EQ:
             return labAttendance == value;
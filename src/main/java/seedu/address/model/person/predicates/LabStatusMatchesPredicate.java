@@ -1,24 +1,29 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.LabAttendance;
-import seedu.address.model.person.LabList;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 
 /**
  * Tests that a {@code Person}'s {@code Exercise status} matches the status of the lab stated.
  */
-public class LabStatusMatchesPredicate implements Predicate<Person> {
+public class LabStatusMatchesPredicate implements SearchablePredicate, WeekRelativePredicate {
     private String status;
     private Index index;
+    private Week currentWeek;
 
     /**
      * Constructs a predicate that matches a {@code Person} if their {@code Lab} status
-     * matches the status of the lab stated.
+     * matches the status of the lab stated. It must be bound to a week with {@link #atWeek} before it is tested.
      *
      * @param index {@code Index} of the lab you are trying to filter for.
      * @param status {@code Status} of the lab chosen.
@@ -28,12 +33,45 @@ public class LabStatusMatchesPredicate implements Predicate<Person> {
         this.status = status;
     }
 
+    /**
+     * Constructs a predicate that matches a {@code Person} if their {@code Lab} status
+     * in {@code currentWeek} matches the status of the lab stated.
+     */
+    public LabStatusMatchesPredicate(Index index, String status, Week currentWeek) {
+        this(index, status);
+        this.currentWeek = requireNonNull(currentWeek);
+    }
+
+    @Override
+    public LabStatusMatchesPredicate atWeek(Week currentWeek) {
+        return new LabStatusMatchesPredicate(index, status, currentWeek);
+    }
+
     @Override
     public boolean test(Person person) {
-        LabList labAttendanceList = (LabList) person.getLabAttendanceList();
-        LabAttendance[] labAttendances = labAttendanceList.getLabs();
-        int number = index.getZeroBased();
-        return labAttendances[number].getStatus().equals(status);
+        return person.getLabAttendanceList().getLabStatus(index.getZeroBased(), getWeek()).equals(status);
+    }
+
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex searchIndex) {
+        return Optional.of(searchIndex.findLabStatus(index.getZeroBased(), status, getWeek()));
+    }
+
+    private Week getWeek() {
+        if (currentWeek == null) {
+            throw new IllegalStateException("Lab status predicate has not been bound to a week");
+        }
+        return currentWeek;
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    @Override
+    public double getTestCost() {
+        return STATUS_TEST_COST;
     }
 
     @Override
@@ -49,7 +87,8 @@ public class LabStatusMatchesPredicate implements Predicate<Person> {
 
         LabStatusMatchesPredicate otherPredicate = (LabStatusMatchesPredicate) other;
         return status.equals(otherPredicate.status)
-                && index.equals(otherPredicate.index);
+                && index.equals(otherPredicate.index)
+                && Objects.equals(currentWeek, otherPredicate.currentWeek);
     }
 
     @Override
@@ -57,6 +96,7 @@ public class LabStatusMatchesPredicate implements Predicate<Person> {
         return new ToStringBuilder(this)
                 .add("Status", status)
                 .add("index", index)
+                .add("currentWeek", currentWeek)
                 .toString();
     }
 }
@@ -1,15 +1,17 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements SearchablePredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -24,6 +26,16 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(name::contains);
     }
 
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex index) {
+        return Optional.of(index.find(PersonSearchIndex.Field.NAME, keywords));
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size() * KEYWORD_TEST_COST;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,14 +1,17 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  *  A {@code Predicate} over {@code Person} that OR-combines multiple field-level predicates.
  */
-public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+public class PersonContainsKeywordsPredicate implements SearchablePredicate {
 
     private Predicate<Person> combinedPredicate;
     private final List<Predicate<Person>> predicates;
@@ -36,6 +39,29 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         return combinedPredicate.test(person);
     }
 
+    /**
+     * Returns the persons any of the field-level predicates may accept, if all of them can be looked up in
+     * {@code index}.
+     */
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex index) {
+        return plan(index).getCandidates();
+    }
+
+    /**
+     * Returns a plan that tests the field-level predicates in order of how cheaply they accept persons, rather than in
+     * the order they were given.
+     */
+    @Override
+    public QueryPlan plan(PersonSearchIndex index) {
+        return QueryPlan.planAny(predicates, index);
+    }
+
+    @Override
+    public double getTestCost() {
+        return QueryPlan.getTotalTestCost(predicates);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
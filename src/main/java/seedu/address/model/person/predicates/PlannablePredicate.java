@@ -0,0 +1,34 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * A {@code Predicate} over {@code Person} that can estimate how expensive it is to test a person and how many persons
+ * it accepts, so that a {@code QueryPlan} can decide when to test it.
+ */
+public interface PlannablePredicate extends Predicate<Person> {
+
+    /** The cost of testing a person with a predicate that reads a single status bit of the person. */
+    double STATUS_TEST_COST = 1;
+
+    /** The cost of testing one keyword against a text field of a person. */
+    double KEYWORD_TEST_COST = 10;
+
+    /** The fraction of persons assumed to be accepted by a predicate that cannot estimate it. */
+    double UNKNOWN_SELECTIVITY = 0.5;
+
+    /**
+     * Returns the relative cost of testing one person, in units of {@link #STATUS_TEST_COST}.
+     */
+    double getTestCost();
+
+    /**
+     * Returns the estimated fraction of the persons in {@code index} that this predicate accepts.
+     */
+    default double estimateSelectivity(PersonSearchIndex index) {
+        return UNKNOWN_SELECTIVITY;
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * The order in which the conditions of a query are looked up in a {@code PersonSearchIndex} and tested on persons,
+ * chosen from the statistics of the index so that persons are ruled out as cheaply as possible.
+ *
+ * Conditions that can be looked up are applied first, as one set of candidate persons. For a query that needs all of
+ * its conditions, the candidates are the intersection of the look-ups, and the remaining look-ups are skipped once it
+ * is empty; conditions whose look-up is exact are not tested again. The conditions that are tested are ordered by
+ * rank: cost divided by the fraction of persons they rule out, so that cheap conditions which rule out many persons
+ * run first. For a query that needs any of its conditions, the candidates are the union of the look-ups, and the
+ * conditions are ordered by cost divided by the fraction of persons they accept.
+ *
+ * A plan only answers correctly for the persons among its candidates, and only until the index next changes.
+ */
+public class QueryPlan implements Predicate<Person> {
+
+    /** The cost of testing a person with a predicate that cannot estimate it. */
+    public static final double DEFAULT_TEST_COST = PlannablePredicate.KEYWORD_TEST_COST;
+
+    private final boolean isConjunction;
+    private final int conditionCount;
+    private final int personCount;
+    private final Optional<BitSet> candidates;
+    private final List<Step> lookups;
+    private final List<Step> testSteps;
+    private final Predicate<Person>[] tests;
+
+    @SuppressWarnings("unchecked")
+    private QueryPlan(boolean isConjunction, int conditionCount, int personCount, Optional<BitSet> candidates,
+            List<Step> lookups, List<Step> testSteps) {
+        this.isConjunction = isConjunction;
+        this.conditionCount = conditionCount;
+        this.personCount = personCount;
+        this.candidates = candidates;
+        this.lookups = lookups;
+        this.testSteps = testSteps;
+        this.tests = testSteps.stream().map(step -> step.predicate).toArray(Predicate[]::new);
+    }
+
+    /**
+     * Returns the plan for finding the persons in {@code index} that all of {@code predicates} accept.
+     */
+    public static QueryPlan planAll(List<? extends Predicate<Person>> predicates, PersonSearchIndex index) {
+        requireNonNull(predicates);
+        requireNonNull(index);
+        int personCount = index.size();
+        BitSet candidates = null;
+        List<Step> lookups = new ArrayList<>();
+        List<Step> tests = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            double cost = getTestCost(predicate);
+            if (predicate instanceof SearchablePredicate) {
+                SearchablePredicate searchablePredicate = (SearchablePredicate) predicate;
+                if (candidates != null && candidates.isEmpty()) {
+                    lookups.add(new Step(predicate, StepKind.SKIPPED, cost, 0));
+                    continue;
+                }
+                Optional<BitSet> found = searchablePredicate.findCandidates(index);
+                if (found.isPresent()) {
+                    double selectivity = getFraction(found.get().cardinality(), personCount);
+                    if (candidates == null) {
+                        candidates = found.get();
+                    } else {
+                        candidates.and(found.get());
+                    }
+                    boolean isExact = searchablePredicate.hasExactCandidates();
+                    lookups.add(new Step(predicate, isExact ? StepKind.EXACT_LOOKUP : StepKind.LOOKUP, cost,
+                            selectivity));
+                    if (!isExact) {
+                        tests.add(new Step(predicate, StepKind.TEST, cost, selectivity));
+                    }
+                    continue;
+                }
+            }
+            tests.add(new Step(predicate, StepKind.TEST, cost, estimateSelectivity(predicate, index)));
+        }
+        tests.sort(Comparator.comparingDouble(step -> step.cost / (1 - step.selectivity)));
+        return new QueryPlan(true, predicates.size(), personCount, Optional.ofNullable(candidates), lookups, tests);
+    }
+
+    /**
+     * Returns the plan for finding the persons in {@code index} that any of {@code predicates} accept.
+     */
+    public static QueryPlan planAny(List<? extends Predicate<Person>> predicates, PersonSearchIndex index) {
+        requireNonNull(predicates);
+        requireNonNull(index);
+        int personCount = index.size();
+        BitSet candidates = new BitSet();
+        boolean isAllFound = true;
+        List<Step> lookups = new ArrayList<>();
+        List<Step> tests = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            double cost = getTestCost(predicate);
+            Optional<BitSet> found = isAllFound && predicate instanceof SearchablePredicate
+                    ? ((SearchablePredicate) predicate).findCandidates(index)
+                    : Optional.empty();
+            double selectivity;
+            if (found.isPresent()) {
+                selectivity = getFraction(found.get().cardinality(), personCount);
+                candidates.or(found.get());
+                lookups.add(new Step(predicate, StepKind.LOOKUP, cost, selectivity));
+            } else {
+                isAllFound = false;
+                selectivity = estimateSelectivity(predicate, index);
+            }
+            // A candidate may have been found for any of the predicates, so every predicate is tested
+            tests.add(new Step(predicate, StepKind.TEST, cost, selectivity));
+        }
+        if (!isAllFound) {
+            lookups.clear();
+        }
+        tests.sort(Comparator.comparingDouble(step -> step.cost / step.selectivity));
+        return new QueryPlan(false, predicates.size(), personCount,
+                isAllFound ? Optional.of(candidates) : Optional.empty(), lookups, tests);
+    }
+
+    /**
+     * Returns the relative cost of testing a person with {@code predicate}, in units of
+     * {@link PlannablePredicate#STATUS_TEST_COST}.
+     */
+    public static double getTestCost(Predicate<Person> predicate) {
+        return predicate instanceof PlannablePredicate
+                ? ((PlannablePredicate) predicate).getTestCost()
+                : DEFAULT_TEST_COST;
+    }
+
+    /**
+     * Returns the total cost of testing a person with each of {@code predicates}.
+     */
+    public static double getTotalTestCost(List<? extends Predicate<Person>> predicates) {
+        return predicates.stream().mapToDouble(QueryPlan::getTestCost).sum();
+    }
+
+    private static double estimateSelectivity(Predicate<Person> predicate, PersonSearchIndex index) {
+        return predicate instanceof PlannablePredicate
+                ? ((PlannablePredicate) predicate).estimateSelectivity(index)
+                : PlannablePredicate.UNKNOWN_SELECTIVITY;
+    }
+
+    private static double getFraction(int count, int total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    /**
+     * Returns the slots of the persons the query may accept, or an empty {@code Optional} if every person has to be
+     * tested.
+     */
+    public Optional<BitSet> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the predicates that are tested on each candidate, in the order they are tested.
+     */
+    public List<Predicate<Person>> getTestOrder() {
+        return List.of(tests);
+    }
+
+    /**
+     * Returns true if {@code person}, which must be one of the candidates, is accepted by the query.
+     */
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> predicate : tests) {
+            if (predicate.test(person) != isConjunction) {
+                return !isConjunction;
+            }
+        }
+        return isConjunction;
+    }
+
+    /**
+     * Returns a description of each step of the plan, with the estimates it was chosen from.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format("Plan for %s of %d conditions over %d persons:",
+                isConjunction ? "all" : "any", conditionCount, personCount));
+        for (Step step : lookups) {
+            report.append("\n  ").append(step);
+        }
+        report.append(candidates.map(slots -> "\n  => " + slots.cardinality() + " candidates")
+                .orElse("\n  => every person is a candidate"));
+        for (Step step : testSteps) {
+            report.append("\n  ").append(step);
+        }
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getReport();
+    }
+
+    private enum StepKind {
+        EXACT_LOOKUP("look up (exact)"),
+        LOOKUP("look up"),
+        SKIPPED("skip (no candidates left)"),
+        TEST("test");
+
+        private final String displayName;
+
+        StepKind(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /**
+     * A condition of the query, with how it is applied and its estimated cost and selectivity.
+     */
+    private static class Step {
+        private final Predicate<Person> predicate;
+        private final StepKind kind;
+        private final double cost;
+        private final double selectivity;
+
+        Step(Predicate<Person> predicate, StepKind kind, double cost, double selectivity) {
+            this.predicate = predicate;
+            this.kind = kind;
+            this.cost = cost;
+            this.selectivity = selectivity;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-25s cost %5.1f, accepts %5.1f%%  %s", kind.displayName, cost, selectivity * 100,
+                    predicate);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} over {@code Person} that can tell when it only accepts persons that another predicate accepts,
+ * so that filtering with it after the other only has to test the persons the other accepted.
+ */
+public interface RefiningPredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person this predicate accepts is also accepted by {@code other}.
+     * May return false when that cannot be told from the predicates alone.
+     */
+    boolean isRefinementOf(Predicate<Person> other);
+}
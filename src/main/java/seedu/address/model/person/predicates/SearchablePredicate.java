@@ -0,0 +1,35 @@
+package seedu.address.model.person.predicates;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * A {@code Predicate} over {@code Person} that can look up the persons it may accept in a {@code PersonSearchIndex},
+ * so that only those have to be tested.
+ */
+public interface SearchablePredicate extends PlannablePredicate {
+
+    /**
+     * Returns the slots in {@code index} of a superset of the persons this predicate accepts, or an empty
+     * {@code Optional} if the index cannot narrow them down.
+     */
+    Optional<BitSet> findCandidates(PersonSearchIndex index);
+
+    /**
+     * Returns true if {@link #findCandidates} returns exactly the persons this predicate accepts, so that they do not
+     * have to be tested.
+     */
+    default boolean hasExactCandidates() {
+        return false;
+    }
+
+    /**
+     * Returns the plan for finding the persons this predicate accepts in {@code index}.
+     */
+    default QueryPlan plan(PersonSearchIndex index) {
+        return QueryPlan.planAll(List.of(this), index);
+    }
+}
@@ -1,16 +1,18 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 
 /**
  * Tests that a {@code Person}'s {@code StudentId} matches any of the keywords given.
  */
-public class StudentIdContainsKeywordsPredicate implements Predicate<Person> {
+public class StudentIdContainsKeywordsPredicate implements SearchablePredicate {
     private final List<String> keywords;
 
     public StudentIdContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +27,16 @@ public class StudentIdContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(id::contains);
     }
 
+    @Override
+    public Optional<BitSet> findCandidates(PersonSearchIndex index) {
+        return Optional.of(index.find(PersonSearchIndex.Field.STUDENT_ID, keywords));
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size() * KEYWORD_TEST_COST;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,53 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Tests that a {@code Person}'s {@code StudentId} is one of the given student IDs, so that the persons stay matched
+ * when they are edited.
+ */
+public class StudentIdInSetPredicate implements Predicate<Person> {
+    private final Set<StudentId> studentIds;
+
+    /**
+     * Constructs a predicate that matches the persons with any of {@code studentIds}.
+     */
+    public StudentIdInSetPredicate(Set<StudentId> studentIds) {
+        requireNonNull(studentIds);
+        this.studentIds = Set.copyOf(studentIds);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return studentIds.contains(person.getStudentId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentIdInSetPredicate)) {
+            return false;
+        }
+
+        StudentIdInSetPredicate otherPredicate = (StudentIdInSetPredicate) other;
+        return studentIds.equals(otherPredicate.studentIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", studentIds)
+                .toString();
+    }
+}
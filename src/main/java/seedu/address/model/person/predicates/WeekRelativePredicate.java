@@ -0,0 +1,29 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} over {@code Person} whose result depends on the week it is tested in, such as one matching
+ * overdue exercises or absent labs. It is created without a week, e.g. by a parser, and bound to the current week
+ * of the model before it is tested.
+ */
+public interface WeekRelativePredicate extends Predicate<Person> {
+
+    /**
+     * Returns an equivalent predicate that is tested in {@code currentWeek}.
+     */
+    Predicate<Person> atWeek(Week currentWeek);
+
+    /**
+     * Returns {@code predicate} bound to {@code currentWeek} if it depends on the week, or {@code predicate} itself
+     * otherwise.
+     */
+    static Predicate<Person> bindToWeek(Predicate<Person> predicate, Week currentWeek) {
+        return predicate instanceof WeekRelativePredicate
+                ? ((WeekRelativePredicate) predicate).atWeek(currentWeek)
+                : predicate;
+    }
+}
@@ -1,7 +1,5 @@
 package seedu.address.model.person.sortcriterion;
 
-import java.util.Comparator;
-
 import seedu.address.model.person.Person;
 
 /**
@@ -11,8 +9,9 @@ public class ExerciseSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "ex";
 
     @Override
-    public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getExerciseTracker, Comparator.reverseOrder());
+    public SortKey getSortKey(Person person) {
+        // Most exercises done first
+        return SortKey.ofRank(-Integer.bitCount(person.getExerciseTracker().getDoneMask()));
     }
 
     @Override
@@ -1,7 +1,5 @@
 package seedu.address.model.person.sortcriterion;
 
-import java.util.Comparator;
-
 import seedu.address.model.person.Person;
 
 /**
@@ -11,8 +9,9 @@ public class LabSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "lab";
 
     @Override
-    public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getLabAttendanceList, Comparator.reverseOrder());
+    public SortKey getSortKey(Person person) {
+        // Highest attendance first, in hundredths of a percent
+        return SortKey.ofRank(-Math.round(person.getLabAttendanceList().calculateLabAttendance() * 100));
     }
 
     @Override
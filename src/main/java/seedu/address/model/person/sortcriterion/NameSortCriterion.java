@@ -1,18 +1,27 @@
 package seedu.address.model.person.sortcriterion;
 
-import java.util.Comparator;
+import java.text.Collator;
+import java.util.Locale;
 
 import seedu.address.model.person.Person;
 
 /**
- * Sorts students by their name in ascending alphabetical order (case-insensitive).
+ * Sorts students by their name in ascending alphabetical order (case-insensitive), as collated for the root locale.
  */
 public class NameSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "name";
+    private static final Collator COLLATOR = createCollator();
 
     @Override
-    public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getName);
+    public SortKey getSortKey(Person person) {
+        return SortKey.ofText(COLLATOR.getCollationKey(person.getName().fullName));
+    }
+
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        // Letters that only differ in case collate equally
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
     }
 
     @Override
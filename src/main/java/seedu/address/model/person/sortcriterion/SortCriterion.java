@@ -6,15 +6,24 @@ import seedu.address.model.person.Person;
 
 /**
  * Represents an abstract sorting criterion for Person objects.
- * Subclasses define specific sorting behaviors.
+ * Subclasses define specific sorting behaviors, as the {@code SortKey} that each person is ordered by.
  */
 public abstract class SortCriterion {
     public static final String MESSAGE_CONSTRAINTS = "Sort Criterion should be one of: name, id, lab, ex";
 
     /**
      * Returns the comparator for sorting Person objects according to this criterion.
+     * It computes the sort keys of both persons on every comparison, so sorting many persons should compare their
+     * keys from {@link #getSortKey(Person)} instead.
      */
-    public abstract Comparator<Person> getComparator();
+    public Comparator<Person> getComparator() {
+        return Comparator.comparing(this::getSortKey);
+    }
+
+    /**
+     * Returns the key that orders {@code person} under this criterion.
+     */
+    public abstract SortKey getSortKey(Person person);
 
     /**
      * Returns a user-friendly display string for this criterion.
@@ -34,4 +43,9 @@ public abstract class SortCriterion {
         // Two criteria are equal if they're of the same class
         return other != null && this.getClass().equals(other.getClass());
     }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
 }
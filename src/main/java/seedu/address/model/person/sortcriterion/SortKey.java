@@ -0,0 +1,49 @@
+package seedu.address.model.person.sortcriterion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+
+/**
+ * The value a person is ordered by under a {@code SortCriterion}, computed once for the person so that comparing two
+ * persons does not recompute it. Keys are ordered by their rank, and then by their text, if they have one.
+ */
+public final class SortKey implements Comparable<SortKey> {
+
+    private final long rank;
+    private final CollationKey text;
+
+    private SortKey(long rank, CollationKey text) {
+        this.rank = rank;
+        this.text = text;
+    }
+
+    /**
+     * Returns a key ordered by {@code rank}, in ascending order.
+     */
+    public static SortKey ofRank(long rank) {
+        return new SortKey(rank, null);
+    }
+
+    /**
+     * Returns a key ordered by {@code text}, in the order of the collator that created it.
+     */
+    public static SortKey ofText(CollationKey text) {
+        requireNonNull(text);
+        return new SortKey(0, text);
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        int byRank = Long.compare(rank, other.rank);
+        if (byRank != 0 || text == null || other.text == null) {
+            return byRank;
+        }
+        return text.compareTo(other.text);
+    }
+
+    @Override
+    public String toString() {
+        return text == null ? Long.toString(rank) : text.getSourceString();
+    }
+}
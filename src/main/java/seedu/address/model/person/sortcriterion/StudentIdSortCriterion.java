@@ -1,7 +1,5 @@
 package seedu.address.model.person.sortcriterion;
 
-import java.util.Comparator;
-
 import seedu.address.model.person.Person;
 
 /**
@@ -11,8 +9,15 @@ public class StudentIdSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "id";
 
     @Override
-    public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getStudentId);
+    public SortKey getSortKey(Person person) {
+        // Every ID is 'A', 7 digits and a capital letter, so ranking by the digits and then the letter orders IDs
+        // the same way as comparing them as strings
+        String value = person.getStudentId().value;
+        long rank = 0;
+        for (int i = 1; i < 8; i++) {
+            rank = rank * 10 + (value.charAt(i) - '0');
+        }
+        return SortKey.ofRank(rank * 26 + (value.charAt(8) - 'A'));
     }
 
     @Override
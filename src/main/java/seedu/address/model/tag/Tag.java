@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -29,7 +31,16 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for the same strings as VALIDATION_REGEX without running a regex
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,120 @@
+package seedu.address.model.timeslot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Maintains the merged ranges covered by a set of non-overlapping timeslots.
+ *
+ * Timeslots that touch (one ends exactly when the next starts) are merged into one continuous range. Since the
+ * timeslots never overlap, each range is simply a chain of back-to-back timeslots, so adding or removing a timeslot
+ * only affects the range containing it and takes O(log n) time.
+ */
+public class MergedTimeslotRanges {
+
+    private final NavigableMap<LocalDateTime, LocalDateTime> endsByStart = new TreeMap<>();
+
+    /**
+     * Adds the interval covered by {@code t}, merging it with any ranges it touches.
+     * {@code t} must not overlap any timeslot already added.
+     */
+    public void add(Timeslot t) {
+        requireNonNull(t);
+        LocalDateTime start = t.getStart();
+        LocalDateTime end = t.getEnd();
+
+        Map.Entry<LocalDateTime, LocalDateTime> before = endsByStart.floorEntry(start);
+        if (before != null && before.getValue().equals(start)) {
+            start = before.getKey();
+            endsByStart.remove(before.getKey());
+        }
+        LocalDateTime afterEnd = endsByStart.remove(end);
+        if (afterEnd != null) {
+            end = afterEnd;
+        }
+        endsByStart.put(start, end);
+    }
+
+    /**
+     * Removes the interval covered by {@code t}, splitting the range that contained it.
+     * {@code t} must be a timeslot previously added.
+     */
+    public void remove(Timeslot t) {
+        requireNonNull(t);
+        Map.Entry<LocalDateTime, LocalDateTime> containing = endsByStart.floorEntry(t.getStart());
+        if (containing == null || containing.getValue().isBefore(t.getEnd())) {
+            return;
+        }
+        endsByStart.remove(containing.getKey());
+        if (containing.getKey().isBefore(t.getStart())) {
+            endsByStart.put(containing.getKey(), t.getStart());
+        }
+        if (t.getEnd().isBefore(containing.getValue())) {
+            endsByStart.put(t.getEnd(), containing.getValue());
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code other}.
+     */
+    public void setAll(MergedTimeslotRanges other) {
+        requireNonNull(other);
+        endsByStart.clear();
+        endsByStart.putAll(other.endsByStart);
+    }
+
+    public void clear() {
+        endsByStart.clear();
+    }
+
+    /**
+     * Returns all merged ranges as {@code [start, end]} pairs, in order of start time.
+     */
+    public List<LocalDateTime[]> getRanges() {
+        List<LocalDateTime[]> ranges = new ArrayList<>(endsByStart.size());
+        for (Map.Entry<LocalDateTime, LocalDateTime> e : endsByStart.entrySet()) {
+            ranges.add(new LocalDateTime[]{e.getKey(), e.getValue()});
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the ranges in {@code sorted} that intersect {@code [from, to)}.
+     * {@code sorted} must hold disjoint {@code [start, end]} pairs in order of start time, such as the output of
+     * {@link #getRanges()}; the first such range is located by binary search.
+     */
+    public static List<LocalDateTime[]> slice(List<LocalDateTime[]> sorted, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(sorted, from, to);
+        // Disjoint ranges ordered by start are also ordered by end, so search for the first range ending after from.
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid)[1].isAfter(from)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        int end = low;
+        while (end < sorted.size() && sorted.get(end)[0].isBefore(to)) {
+            end++;
+        }
+        return sorted.subList(low, end);
+    }
+
+    public int size() {
+        return endsByStart.size();
+    }
+
+    public boolean isEmpty() {
+        return endsByStart.isEmpty();
+    }
+}
@@ -9,11 +9,11 @@ import java.util.stream.Collectors;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Timeslots;
+import seedu.address.model.person.CompactLabList;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.GradeMap;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -32,32 +32,32 @@ public class SampleDataUtil {
                     new Email("alexyeoh@example.com"),
                     getTagSet("Smart"),
                     new GithubUsername("AlexYeoh"),
-                    new ExerciseTracker(), new LabList(), new GradeMap()),
+                    new ExerciseTracker(), new CompactLabList(), new GradeMap()),
             new Person(new StudentId("A1231231B"), new Name("Bernice Yu"), new Phone("99272758"),
                     new Email("berniceyu@example.com"),
                     getTagSet("Consulting", "Struggling"),
                     new GithubUsername("BerniceYu"),
-                    new ExerciseTracker(), new LabList(), new GradeMap()),
+                    new ExerciseTracker(), new CompactLabList(), new GradeMap()),
             new Person(new StudentId("A1231232B"), new Name("Charlotte Oliveiro"), new Phone("93210283"),
                     new Email("charlotte@example.com"),
                     getTagSet(),
                     new GithubUsername("CharlotteOliveiro"),
-                    new ExerciseTracker(), new LabList(), new GradeMap()),
+                    new ExerciseTracker(), new CompactLabList(), new GradeMap()),
             new Person(new StudentId("A1231233B"), new Name("David Li"), new Phone("91031282"),
                     new Email("lidavid@example.com"),
                     getTagSet(),
                     new GithubUsername("DavidLi"),
-                    new ExerciseTracker(), new LabList(), new GradeMap()),
+                    new ExerciseTracker(), new CompactLabList(), new GradeMap()),
             new Person(new StudentId("A1231234B"), new Name("Irfan Ibrahim"), new Phone("92492021"),
                     new Email("irfan@example.com"),
                     getTagSet("Consulting"),
                     new GithubUsername("IrfanIbrahim"),
-                    new ExerciseTracker(), new LabList(), new GradeMap()),
+                    new ExerciseTracker(), new CompactLabList(), new GradeMap()),
             new Person(new StudentId("A1231235B"), new Name("Roy Balakrishnan"), new Phone("92624417"),
                     new Email("royb@example.com"),
                     getTagSet("Struggling"),
                     new GithubUsername("RoyBalakrishnan"),
-                    new ExerciseTracker(), new LabList(), new GradeMap())
+                    new ExerciseTracker(), new CompactLabList(), new GradeMap())
         };
     }
 
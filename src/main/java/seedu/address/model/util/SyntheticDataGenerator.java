@@ -0,0 +1,237 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.person.CompactLabList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GithubUsername;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Lab;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Generates rosters and timeslots of any size from a seed, for measuring the app on realistic amounts of data.
+ * Two generators created with the same seed and week produce the same data.
+ *
+ * Each student is given a diligence that decides how likely they are to have done each exercise, attended each lab
+ * and passed each exam that is already due in the generator's week, and that their tags agree with. Timeslots fill
+ * the working hours of consecutive weekdays without overlapping, and some of them are consultations with students
+ * from the roster.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+    /** A week in the middle of the semester, when some of every kind of status is due. */
+    public static final int DEFAULT_WEEK = 7;
+    /** Student IDs hold 7 digits, so at most this many distinct students can be generated. */
+    public static final int MAX_STUDENT_COUNT = 10_000_000;
+    public static final int STUDENTS_PER_TUTORIAL_GROUP = 25;
+
+    /** The first week in which each exam in {@link GradeMap#VALID_EXAM_NAMES} can have been graded. */
+    private static final int[] EXAM_GRADING_WEEKS = {5, 7, 10, 13};
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Arjun", "Mei Ling", "John", "Nur", "Kumar", "Hui Min", "Daniel", "Priya", "Jun Jie", "Aisyah", "Ethan",
+        "Xin Yi", "Rajesh", "Chloe", "Marcus", "Farah", "Kai Wen", "Sarah", "Haziq", "Jia Hui", "Ryan", "Divya"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Rahman", "Chen", "Goh", "Lee", "Pillai", "Teo", "Koh", "Chua", "Ong", "Abdullah",
+        "Nair", "Low", "Ho", "Sim", "Ismail", "Menon", "Chong", "Yap", "Foo", "Kaur"};
+    private static final int WORKDAY_START_HOUR = 9;
+    private static final int WORKDAY_END_HOUR = 18;
+
+    private final Random random;
+    private final int week;
+
+    public SyntheticDataGenerator() {
+        this(DEFAULT_SEED, DEFAULT_WEEK);
+    }
+
+    public SyntheticDataGenerator(long seed) {
+        this(seed, DEFAULT_WEEK);
+    }
+
+    /**
+     * Creates a generator whose students' statuses are as they would be in week {@code week} of the semester.
+     */
+    public SyntheticDataGenerator(long seed, int week) {
+        checkArgument(week >= Week.MIN_WEEK && week <= Week.MAX_WEEK, Week.MESSAGE_CONSTRAINTS);
+        random = new Random(seed);
+        this.week = week;
+    }
+
+    /**
+     * Returns {@code count} valid persons with distinct student IDs.
+     */
+    public List<Person> generatePersons(int count) {
+        checkArgument(count >= 0 && count <= MAX_STUDENT_COUNT,
+                "Count must be between 0 and " + MAX_STUDENT_COUNT + ".");
+        int groupCount = Math.max(1, (count + STUDENTS_PER_TUTORIAL_GROUP - 1) / STUDENTS_PER_TUTORIAL_GROUP);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i, groupCount));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding {@code count} generated persons, set to the generator's week.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count));
+        addressBook.setCurrentWeek(new Week(week));
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code count} non-overlapping blocked timeslots in the working hours of weekdays from {@code firstDay}.
+     * Some timeslots start where the previous one ends, so that merging them has work to do.
+     */
+    public Timeslots generateTimeslots(int count, LocalDate firstDay) {
+        return generateTimeslots(count, firstDay, List.of());
+    }
+
+    /**
+     * Returns {@code count} non-overlapping timeslots in the working hours of weekdays from {@code firstDay}, about a
+     * third of which are consultations with students from {@code roster}. If {@code roster} is empty, every
+     * timeslot is a blocked one.
+     */
+    public Timeslots generateTimeslots(int count, LocalDate firstDay, List<Person> roster) {
+        requireNonNull(firstDay);
+        requireNonNull(roster);
+        checkArgument(count >= 0, "Count must not be negative.");
+        Timeslots timeslots = new Timeslots();
+        LocalDateTime start = nextWorkdayStart(firstDay);
+        while (timeslots.getTimeslotList().size() < count) {
+            boolean isConsultation = !roster.isEmpty() && random.nextInt(3) == 0;
+            // Consultations take half an hour, blocked timeslots between half an hour and two hours
+            LocalDateTime end = start.plusMinutes(isConsultation ? 30 : 30L * (1 + random.nextInt(4)));
+            if (end.isAfter(start.toLocalDate().atTime(WORKDAY_END_HOUR, 0))) {
+                start = nextWorkdayStart(start.toLocalDate().plusDays(1));
+                continue;
+            }
+            if (isConsultation) {
+                String studentName = roster.get(random.nextInt(roster.size())).getName().fullName;
+                timeslots.addTimeslot(new ConsultationTimeslot(start, end, studentName));
+            } else {
+                timeslots.addTimeslot(new Timeslot(start, end));
+            }
+            start = random.nextInt(3) == 0 ? end : end.plusMinutes(30L * (1 + random.nextInt(3)));
+        }
+        return timeslots;
+    }
+
+    private static LocalDateTime nextWorkdayStart(LocalDate day) {
+        LocalDate workday = day;
+        while (workday.getDayOfWeek() == DayOfWeek.SATURDAY || workday.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            workday = workday.plusDays(1);
+        }
+        return workday.atTime(WORKDAY_START_HOUR, 0);
+    }
+
+    private Person generatePerson(int index, int groupCount) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String handle = firstName.replace(" ", "") + lastName + index;
+        // Most students keep up, and a long tail falls behind
+        double diligence = 1 - 0.6 * Math.pow(random.nextDouble(), 3);
+
+        return new Person(
+                new StudentId(String.format("A%07d%c", index, (char) ('A' + random.nextInt(26)))),
+                new Name(firstName + " " + lastName),
+                new Phone(String.valueOf((random.nextBoolean() ? 80000000 : 90000000) + random.nextInt(10000000))),
+                new Email(handle.toLowerCase() + "@u.nus.edu"),
+                generateTags(diligence, groupCount),
+                new GithubUsername(handle),
+                new ExerciseTracker(generateDoneMask(diligence)),
+                new CompactLabList(generateAttendedMask(diligence)),
+                generateGradeMap(diligence));
+    }
+
+    private Set<Tag> generateTags(double diligence, int groupCount) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(String.format("T%02d", 1 + random.nextInt(groupCount))));
+        if (diligence < 0.7) {
+            tags.add(new Tag("Struggling"));
+        } else if (diligence > 0.97 && random.nextInt(4) == 0) {
+            tags.add(new Tag("Excelling"));
+        }
+        if (random.nextInt(10) == 0) {
+            tags.add(new Tag("Consulting"));
+        }
+        if (random.nextInt(20) == 0) {
+            tags.add(new Tag("Exchange"));
+        }
+        return tags;
+    }
+
+    /**
+     * Exercises already overdue are mostly done, those due soon are done by some, and later ones by very few.
+     */
+    private int generateDoneMask(double diligence) {
+        int doneMask = 0;
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            double probability;
+            if (i < week - ExerciseTracker.EXERCISE_WEEK_DIFFERENCE) {
+                probability = 0.95 * diligence;
+            } else if (i < week) {
+                probability = 0.5 * diligence;
+            } else {
+                probability = 0.02;
+            }
+            if (random.nextDouble() < probability) {
+                doneMask |= 1 << i;
+            }
+        }
+        return doneMask;
+    }
+
+    /**
+     * Labs that have been held are mostly attended, and labs that have not been held yet are never attended.
+     */
+    private int generateAttendedMask(double diligence) {
+        int attendedMask = 0;
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            int labWeek = i + 1 + Lab.LAB_WEEK_DIFFERENCE;
+            if (labWeek <= week && random.nextDouble() < (labWeek < week ? 0.95 : 0.6) * diligence) {
+                attendedMask |= 1 << i;
+            }
+        }
+        return attendedMask;
+    }
+
+    private GradeMap generateGradeMap(double diligence) {
+        int gradedMask = 0;
+        int passedMask = 0;
+        for (int i = 0; i < GradeMap.VALID_EXAM_NAMES.length; i++) {
+            if (week < EXAM_GRADING_WEEKS[i] || random.nextInt(20) == 0) {
+                continue;
+            }
+            gradedMask |= 1 << i;
+            if (random.nextDouble() < 0.5 + 0.45 * diligence) {
+                passedMask |= 1 << i;
+            }
+        }
+        return new GradeMap(gradedMask, passedMask);
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.CompactLabList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GithubUsername;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ *
+ * The file holds the current week and the number of persons, followed by each person's text fields and tags as
+ * strings and their exercise, lab and exam trackers as the bitfields the model keeps them in. If the file does not
+ * exist yet, the JSON file of the same name is imported instead.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x4C4C4142; // "LLAB"
+    public static final int VERSION = 1;
+    public static final String MESSAGE_INVALID_TRACKER = "Person's %s tracker has bits set beyond its last entry.";
+    public static final String MESSAGE_UNGRADED_EXAM_PASSED = "Person has passed an exam that was not graded.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (!BinaryDataFile.isBinaryFile(filePath)) {
+                return Optional.empty();
+            }
+            Path jsonFilePath = BinaryDataFile.getJsonFilePath(filePath);
+            logger.info("Binary data file " + filePath + " not found, importing from " + jsonFilePath);
+            return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        }
+
+        try {
+            return Optional.of(BinaryDataFile.read(filePath, MAGIC, VERSION, BinaryAddressBookStorage::readBody));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryDataFile.write(filePath, MAGIC, VERSION, out -> writeBody(addressBook, out));
+    }
+
+    private static void writeBody(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeByte(addressBook.getCurrentWeek().getWeekNumber());
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            BinaryDataFile.writeString(out, person.getStudentId().value);
+            BinaryDataFile.writeString(out, person.getName().fullName);
+            BinaryDataFile.writeString(out, person.getPhone().value);
+            BinaryDataFile.writeString(out, person.getEmail().value);
+            BinaryDataFile.writeString(out, person.getGithubUsername().value);
+            out.writeShort(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                BinaryDataFile.writeString(out, tag.tagName);
+            }
+            out.writeShort(person.getExerciseTracker().getDoneMask());
+            out.writeShort(CompactLabList.toAttendedMask(person.getLabAttendanceList()));
+            out.writeByte(person.getGradeMap().getGradedMask());
+            out.writeByte(person.getGradeMap().getPassedMask());
+        }
+    }
+
+    private static ReadOnlyAddressBook readBody(ByteBuffer buffer) throws IllegalValueException {
+        int currentWeek = buffer.get();
+        int personCount = buffer.getInt();
+        if (personCount < 0) {
+            throw new IllegalValueException(BinaryDataFile.MESSAGE_TRUNCATED);
+        }
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(buffer));
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons, currentWeek);
+    }
+
+    private static Person readPerson(ByteBuffer buffer) throws IllegalValueException {
+        String studentId = BinaryDataFile.readString(buffer);
+        if (!StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        String name = BinaryDataFile.readString(buffer);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = BinaryDataFile.readString(buffer);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = BinaryDataFile.readString(buffer);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String githubUsername = BinaryDataFile.readString(buffer);
+        if (!GithubUsername.isValidGithubUsername(githubUsername)) {
+            throw new IllegalValueException(GithubUsername.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = Short.toUnsignedInt(buffer.getShort());
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = BinaryDataFile.readString(buffer);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int doneMask = checkMask(Short.toUnsignedInt(buffer.getShort()), ExerciseTracker.NUMBER_OF_EXERCISES,
+                "exercise");
+        int attendedMask = checkMask(Short.toUnsignedInt(buffer.getShort()), LabList.NUMBER_OF_LABS, "lab");
+        int gradedMask = checkMask(Byte.toUnsignedInt(buffer.get()), GradeMap.VALID_EXAM_NAMES.length, "exam");
+        int passedMask = checkMask(Byte.toUnsignedInt(buffer.get()), GradeMap.VALID_EXAM_NAMES.length, "exam");
+        if ((passedMask & ~gradedMask) != 0) {
+            throw new IllegalValueException(MESSAGE_UNGRADED_EXAM_PASSED);
+        }
+
+        return new Person(new StudentId(studentId), new Name(name), new Phone(phone), new Email(email), tags,
+                new GithubUsername(githubUsername), new ExerciseTracker(doneMask), new CompactLabList(attendedMask),
+                new GradeMap(gradedMask, passedMask));
+    }
+
+    /**
+     * Returns {@code mask}, checking that no bits beyond the first {@code width} are set.
+     */
+    private static int checkMask(int mask, int width, String trackerName) throws IllegalValueException {
+        if (mask >>> width != 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TRACKER, trackerName));
+        }
+        return mask;
+    }
+}
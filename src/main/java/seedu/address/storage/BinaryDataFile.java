@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageIoEvent;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes the versioned binary data files used by {@link BinaryAddressBookStorage} and
+ * {@link BinaryTimeslotsStorage}.
+ *
+ * Every file starts with a 4-byte magic number naming its contents and a 2-byte format version. Numbers are written
+ * big-endian, and strings as their length in bytes followed by their UTF-8 encoding.
+ */
+public final class BinaryDataFile {
+
+    public static final String FILE_EXTENSION = ".bin";
+    static final String MESSAGE_WRONG_FILE_TYPE = "File does not contain the expected kind of data.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported data file version %d, expected %d.";
+    static final String MESSAGE_TRUNCATED = "Data file ends unexpectedly.";
+
+    /** Files at least this large are memory-mapped instead of being read into the heap. */
+    static final long MAPPING_THRESHOLD = 1 << 20;
+
+    /**
+     * Writes the body of a data file, i.e. everything after its header.
+     */
+    @FunctionalInterface
+    interface BodyWriter {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the body of a data file from a buffer positioned just after its header.
+     */
+    @FunctionalInterface
+    interface BodyReader<T> {
+        T readFrom(ByteBuffer buffer) throws IllegalValueException;
+    }
+
+    private BinaryDataFile() {}
+
+    /**
+     * Returns true if {@code filePath} names a binary data file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the JSON file kept alongside the binary data file {@code filePath}, i.e. the same name with
+     * a {@code .json} extension instead.
+     */
+    static Path getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        return filePath.resolveSibling(baseName + ".json");
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, checking that its header matches {@code magic} and {@code version}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is of the wrong kind or version, or its contents are invalid.
+     */
+    static <T> T read(Path filePath, int magic, int version, BodyReader<T> reader)
+            throws IOException, IllegalValueException {
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.READ, filePath);
+        ByteBuffer buffer = map(filePath);
+        try {
+            if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != magic) {
+                throw new IllegalValueException(MESSAGE_WRONG_FILE_TYPE);
+            }
+            int fileVersion = Short.toUnsignedInt(buffer.getShort());
+            if (fileVersion != version) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, fileVersion, version));
+            }
+            T data = reader.readFrom(buffer);
+            event.end(filePath);
+            return data;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+    }
+
+    /**
+     * Returns the contents of {@code filePath}, memory-mapped if the file is at least {@link #MAPPING_THRESHOLD}
+     * bytes long. Small files are read into the heap instead, as mapping them costs more than it saves and keeps
+     * the file locked on some platforms until the mapping is garbage collected.
+     */
+    private static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAPPING_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(filePath));
+    }
+
+    /**
+     * Writes a data file with the given header and body to {@code filePath}.
+     * The file is written beside {@code filePath} first and then moved over it, so a failed write leaves the
+     * previous file intact.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(Path filePath, int magic, int version, BodyWriter writer) throws IOException {
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.WRITE, filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+            out.writeInt(magic);
+            out.writeShort(version);
+            writer.writeTo(out);
+        }
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        event.end(filePath);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}.
+     *
+     * @throws IllegalValueException if the string's length runs past the end of {@code buffer}.
+     */
+    static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code value} as its length in bytes followed by its UTF-8 encoding.
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.Timeslots;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * A class to access Timeslots data stored as a binary file on the hard disk.
+ *
+ * The file holds the number of timeslots, followed by each timeslot's start and end as seconds since the epoch of
+ * the local time line and, for consultations, the student's name. If the file does not exist yet, the JSON file of
+ * the same name is imported instead.
+ */
+public class BinaryTimeslotsStorage implements TimeslotsStorage {
+
+    public static final int MAGIC = 0x4C4C5453; // "LLTS"
+    public static final int VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTimeslotsStorage.class);
+
+    private Path filePath;
+
+    public BinaryTimeslotsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTimeslotsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTimeslots> readTimeslots() throws DataLoadingException {
+        return readTimeslots(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTimeslots()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyTimeslots> readTimeslots(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (!BinaryDataFile.isBinaryFile(filePath)) {
+                return Optional.empty();
+            }
+            Path jsonFilePath = BinaryDataFile.getJsonFilePath(filePath);
+            logger.info("Binary data file " + filePath + " not found, importing from " + jsonFilePath);
+            return new JsonTimeslotsStorage(jsonFilePath).readTimeslots();
+        }
+
+        try {
+            return Optional.of(BinaryDataFile.read(filePath, MAGIC, VERSION, BinaryTimeslotsStorage::readBody));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveTimeslots(ReadOnlyTimeslots timeslots) throws IOException {
+        saveTimeslots(timeslots, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTimeslots(ReadOnlyTimeslots)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTimeslots(ReadOnlyTimeslots timeslots, Path filePath) throws IOException {
+        requireNonNull(timeslots);
+        requireNonNull(filePath);
+
+        BinaryDataFile.write(filePath, MAGIC, VERSION, out -> writeBody(timeslots, out));
+    }
+
+    private static void writeBody(ReadOnlyTimeslots timeslots, DataOutputStream out) throws IOException {
+        out.writeInt(timeslots.getTimeslotList().size());
+        for (Timeslot timeslot : timeslots.getTimeslotList()) {
+            out.writeLong(timeslot.getStart().toEpochSecond(ZoneOffset.UTC));
+            out.writeLong(timeslot.getEnd().toEpochSecond(ZoneOffset.UTC));
+            String studentName = timeslot.getStudentName();
+            boolean isConsultation = studentName != null && !studentName.isEmpty();
+            out.writeBoolean(isConsultation);
+            if (isConsultation) {
+                BinaryDataFile.writeString(out, studentName);
+            }
+        }
+    }
+
+    private static Timeslots readBody(ByteBuffer buffer) throws IllegalValueException {
+        int timeslotCount = buffer.getInt();
+        if (timeslotCount < 0) {
+            throw new IllegalValueException(BinaryDataFile.MESSAGE_TRUNCATED);
+        }
+        List<Timeslot> modelTimeslots = new ArrayList<>();
+        try {
+            for (int i = 0; i < timeslotCount; i++) {
+                LocalDateTime start = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                LocalDateTime end = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                if (buffer.get() != 0) {
+                    modelTimeslots.add(new ConsultationTimeslot(start, end, BinaryDataFile.readString(buffer)));
+                } else {
+                    modelTimeslots.add(new Timeslot(start, end));
+                }
+            }
+            Timeslots timeslots = new Timeslots();
+            timeslots.setTimeslots(modelTimeslots);
+            return timeslots;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Jackson-friendly version of {@link ModelChange}, written as one record of the operation journal.
+ * Only the fields used by the change's kind are written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedModelChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    private final String kind;
+    private final String targetId;
+    private final JsonAdaptedPerson person;
+    private final Integer week;
+    private final JsonAdaptedTimeslot timeslot;
+
+    /**
+     * Constructs a {@code JsonAdaptedModelChange} with the given fields.
+     */
+    @JsonCreator
+    public JsonAdaptedModelChange(@JsonProperty("kind") String kind,
+                                  @JsonProperty("targetId") String targetId,
+                                  @JsonProperty("person") JsonAdaptedPerson person,
+                                  @JsonProperty("week") Integer week,
+                                  @JsonProperty("timeslot") JsonAdaptedTimeslot timeslot) {
+        this.kind = kind;
+        this.targetId = targetId;
+        this.person = person;
+        this.week = week;
+        this.timeslot = timeslot;
+    }
+
+    /**
+     * Converts a given {@code ModelChange} into this class for Jackson use.
+     */
+    public JsonAdaptedModelChange(ModelChange source) {
+        kind = source.getKind().name();
+        targetId = source.getTargetId().map(id -> id.value).orElse(null);
+        person = source.getPerson().map(JsonAdaptedPerson::new).orElse(null);
+        week = source.getWeek().map(Week::getWeekNumber).orElse(null);
+        timeslot = source.getTimeslot().map(JsonAdaptedTimeslot::new).orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record into the model's {@code ModelChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ModelChange toModelType() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        ModelChange.Kind modelKind;
+        try {
+            modelKind = ModelChange.Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Unknown journal record kind: " + kind);
+        }
+
+        switch (modelKind) {
+        case ADD_PERSON:
+            return ModelChange.addPerson(requirePerson());
+        case SET_PERSON:
+            return ModelChange.setPerson(requireTargetId(), requirePerson());
+        case DELETE_PERSON:
+            return ModelChange.deletePerson(requireTargetId());
+        case SET_WEEK:
+            if (week == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "week"));
+            }
+            if (week < Week.MIN_WEEK || week > Week.MAX_WEEK) {
+                throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
+            }
+            return ModelChange.setWeek(new Week(week));
+        case ADD_TIMESLOT:
+            return ModelChange.addTimeslot(requireTimeslot());
+        case REMOVE_TIMESLOT:
+            return ModelChange.removeTimeslot(requireTimeslot());
+        case CLEAR_TIMESLOTS:
+            return ModelChange.clearTimeslots();
+        default:
+            throw new IllegalValueException("A " + kind + " change cannot be journaled");
+        }
+    }
+
+    private StudentId requireTargetId() throws IllegalValueException {
+        if (targetId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "targetId"));
+        }
+        if (!StudentId.isValidStudentId(targetId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentId(targetId);
+    }
+
+    private Person requirePerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Timeslot requireTimeslot() throws IllegalValueException {
+        if (timeslot == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "timeslot"));
+        }
+        return timeslot.toModelType();
+    }
+}
@@ -117,6 +117,13 @@ class JsonAdaptedPerson {
 
     }
 
+    /**
+     * Returns the student ID as written in the file, which may be missing or invalid.
+     */
+    String getStudentId() {
+        return studentId;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
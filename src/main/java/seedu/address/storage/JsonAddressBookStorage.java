@@ -5,11 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageIoEvent;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -19,12 +17,20 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, pretty printed if
+     * {@code isPrettyPrinted} is true or as compact JSON otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +44,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons are read from the file one at a time rather than the whole file being loaded first.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +52,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.READ, filePath);
+        Optional<ReadOnlyAddressBook> addressBook =
+                JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::readAddressBook);
+        event.end(filePath);
+        return addressBook;
     }
 
     @Override
@@ -72,8 +72,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.WRITE, filePath);
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(filePath, isPrettyPrinted,
+                generator -> JsonSerializableAddressBook.writeAddressBook(addressBook, generator));
+        event.end(filePath);
     }
 
 }
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageIoEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModelChange;
+
+/**
+ * An append-only journal of {@link ModelChange}s made since the data files were last written.
+ * Each change is stored as one line of compact JSON, so recording a change costs the same however large the data is.
+ */
+public class JsonOperationJournal {
+
+    public static final String DEFAULT_FILE_NAME = "journal.jsonl";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonOperationJournal.class);
+
+    private final Path filePath;
+    private int recordCount = -1; // number of records in the file, or -1 if not yet counted
+    private boolean isIntact = true;
+
+    public JsonOperationJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the changes recorded in the journal, oldest first, or an empty list if there is no journal file.
+     * Reading stops at the first record that cannot be read, such as one left incomplete by a crash mid-write,
+     * after which {@link #isIntact()} returns false.
+     *
+     * @throws DataLoadingException if the journal file could not be read.
+     */
+    public List<ModelChange> readChanges() throws DataLoadingException {
+        List<ModelChange> changes = new ArrayList<>();
+        isIntact = true;
+        if (!Files.exists(filePath)) {
+            recordCount = 0;
+            return changes;
+        }
+
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.READ, filePath);
+        int lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lineCount++;
+                if (!isIntact) {
+                    continue;
+                }
+                try {
+                    changes.add(JsonUtil.fromJsonString(line, JsonAdaptedModelChange.class).toModelType());
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Ignoring journal records from line " + lineCount + " of " + filePath + ": " + e);
+                    isIntact = false;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        recordCount = lineCount;
+        event.end(filePath);
+        return changes;
+    }
+
+    /**
+     * Returns false if the last call to {@link #readChanges()} had to skip unreadable records.
+     */
+    public boolean isIntact() {
+        return isIntact;
+    }
+
+    /**
+     * Appends {@code changes} to the journal in a single write, creating the journal file if needed.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void append(List<ModelChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (ModelChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedModelChange(change))).append('\n');
+        }
+        int count = size();
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.APPEND, filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, records.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        event.end(filePath);
+        recordCount = count + changes.size();
+    }
+
+    /**
+     * Removes every record from the journal.
+     *
+     * @throws IOException if the journal file could not be deleted.
+     */
+    public void clear() throws IOException {
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.CLEAR, filePath);
+        Files.deleteIfExists(filePath);
+        event.end(filePath);
+        recordCount = 0;
+        isIntact = true;
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     */
+    public int size() throws IOException {
+        if (recordCount < 0) {
+            recordCount = 0;
+            if (Files.exists(filePath)) {
+                try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+                    recordCount = (int) reader.lines().filter(line -> !line.isBlank()).count();
+                }
+            }
+        }
+        return recordCount;
+    }
+}
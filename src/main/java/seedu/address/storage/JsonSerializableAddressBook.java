@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,14 +8,18 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Week;
-import seedu.address.model.person.ExerciseTracker;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -23,6 +28,9 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data must be a JSON object.";
+    public static final String MESSAGE_PERSONS_NOT_AN_ARRAY = "Persons must be a JSON array.";
+    public static final String MESSAGE_INVALID_PERSON = "Persons list must only contain person objects.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     @JsonProperty("currentWeek")
@@ -54,18 +62,78 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        persons.forEach(converter::add);
+        return toAddressBook(converter.getPersons(), currentWeek);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one person at a time
+     * instead of building the whole serializable address book first.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("currentWeek", source.getCurrentWeek().getWeekNumber());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written in the format of this class from {@code parser}. Persons are converted into
+     * the model's {@code Person} in parallel while the rest of the file is parsed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+        }
+
+        ObjectReader personReader = JsonUtil.getReader(JsonAdaptedPerson.class);
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        int currentWeek = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("persons".equals(fieldName)) {
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new IllegalValueException(MESSAGE_PERSONS_NOT_AN_ARRAY);
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    converter.add(personReader.readValue(parser));
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new IllegalValueException(MESSAGE_INVALID_PERSON);
+                }
+            } else if ("currentWeek".equals(fieldName)) {
+                currentWeek = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return toAddressBook(converter.getPersons(), currentWeek);
+    }
+
+    /**
+     * Returns an address book holding {@code modelPersons} in week {@code currentWeek}.
+     *
+     * @throws IllegalValueException if the week is out of range or the persons contain duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons, int currentWeek) throws IllegalValueException {
+        if (currentWeek < Week.MIN_WEEK || currentWeek > Week.MAX_WEEK) {
+            throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
+        }
         AddressBook addressBook = new AddressBook();
         addressBook.setCurrentWeek(new Week(currentWeek));
-        LabList.setCurrentWeek(currentWeek);
-        ExerciseTracker.setCurrentWeek(currentWeek);
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
-
 }
@@ -46,11 +46,12 @@ public class JsonSerializableTimeslots {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Timeslots toModelType() throws IllegalValueException {
-        Timeslots timeslots = new Timeslots();
+        List<Timeslot> modelTimeslots = new ArrayList<>(times.size());
         for (JsonAdaptedTimeslot jsonAdaptedTimeslot : times) {
-            Timeslot modelTimeslot = jsonAdaptedTimeslot.toModelType();
-            timeslots.addTimeslot(modelTimeslot);
+            modelTimeslots.add(jsonAdaptedTimeslot.toModelType());
         }
+        Timeslots timeslots = new Timeslots();
+        timeslots.setTimeslots(modelTimeslots);
         return timeslots;
     }
 }
@@ -10,6 +10,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageIoEvent;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTimeslots;
@@ -45,6 +46,7 @@ public class JsonTimeslotsStorage implements TimeslotsStorage {
     public Optional<ReadOnlyTimeslots> readTimeslots(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.READ, filePath);
         Optional<JsonSerializableTimeslots> jsonTimeslots = JsonUtil.readJsonFile(
                 filePath, JsonSerializableTimeslots.class);
         if (!jsonTimeslots.isPresent()) {
@@ -52,7 +54,9 @@ public class JsonTimeslotsStorage implements TimeslotsStorage {
         }
 
         try {
-            return Optional.of(jsonTimeslots.get().toModelType());
+            ReadOnlyTimeslots timeslots = jsonTimeslots.get().toModelType();
+            event.end(filePath);
+            return Optional.of(timeslots);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -72,8 +76,10 @@ public class JsonTimeslotsStorage implements TimeslotsStorage {
     public void saveTimeslots(ReadOnlyTimeslots timeslots, Path filePath) throws IOException {
         requireNonNull(timeslots);
         requireNonNull(filePath);
+        StorageIoEvent event = StorageIoEvent.begin(StorageIoEvent.WRITE, filePath);
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableTimeslots(timeslots), filePath);
+        event.end(filePath);
     }
 
 }
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on a fork/join pool.
+ *
+ * Persons are added in file order and handed to the pool in batches, so that conversion can overlap with reading the
+ * rest of the file. The converted persons keep the order they were added in, and if several records are invalid,
+ * the error reported is always the one for the earliest record, as it would be if they were converted one by one.
+ */
+class ParallelPersonConverter {
+
+    public static final String MESSAGE_INVALID_RECORD = "Person #%d%s is invalid: %s";
+
+    /** Number of persons handed to the pool at a time. */
+    static final int BATCH_SIZE = 4096;
+    /** Ranges of at most this many persons are converted on one thread rather than split further. */
+    static final int SEQUENTIAL_THRESHOLD = 128;
+
+    private final ForkJoinPool pool;
+    private final List<Batch> batches = new ArrayList<>();
+    private List<JsonAdaptedPerson> pending = new ArrayList<>();
+    private int count;
+
+    ParallelPersonConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelPersonConverter(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Adds {@code adaptedPerson} to be converted after all persons added before it.
+     */
+    void add(JsonAdaptedPerson adaptedPerson) {
+        requireNonNull(adaptedPerson);
+        pending.add(adaptedPerson);
+        count++;
+        if (pending.size() == BATCH_SIZE) {
+            submitPending();
+        }
+    }
+
+    /**
+     * Waits for every added person to be converted and returns them in the order they were added.
+     *
+     * @throws IllegalValueException naming the earliest added person that violates any data constraints.
+     */
+    List<Person> getPersons() throws IllegalValueException {
+        submitPending();
+        List<Person> persons = new ArrayList<>(count);
+        for (Batch batch : batches) {
+            batch.join();
+            batch.checkConverted();
+            persons.addAll(Arrays.asList(batch.persons));
+        }
+        return persons;
+    }
+
+    private void submitPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Batch batch = new Batch(pending, count - pending.size());
+        pool.execute(batch);
+        batches.add(batch);
+        pending = new ArrayList<>(BATCH_SIZE);
+    }
+
+    /**
+     * Converts one batch of persons, splitting it in half until the ranges are small enough to convert directly.
+     */
+    private static class Batch extends RecursiveAction {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final int firstRecordIndex;
+        private final Person[] persons;
+        private final IllegalValueException[] errors;
+        private final AtomicInteger firstErrorIndex;
+        private final int from;
+        private final int to;
+
+        Batch(List<JsonAdaptedPerson> adaptedPersons, int firstRecordIndex) {
+            this(adaptedPersons, firstRecordIndex, new Person[adaptedPersons.size()],
+                    new IllegalValueException[adaptedPersons.size()], new AtomicInteger(Integer.MAX_VALUE),
+                    0, adaptedPersons.size());
+        }
+
+        private Batch(List<JsonAdaptedPerson> adaptedPersons, int firstRecordIndex, Person[] persons,
+                      IllegalValueException[] errors, AtomicInteger firstErrorIndex, int from, int to) {
+            this.adaptedPersons = adaptedPersons;
+            this.firstRecordIndex = firstRecordIndex;
+            this.persons = persons;
+            this.errors = errors;
+            this.firstErrorIndex = firstErrorIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Batch(adaptedPersons, firstRecordIndex, persons, errors, firstErrorIndex, from, mid),
+                        new Batch(adaptedPersons, firstRecordIndex, persons, errors, firstErrorIndex, mid, to));
+                return;
+            }
+            // Persons after a known error need not be converted, but every person before it must be, in case
+            // one of them is invalid too.
+            for (int i = from; i < to && i < firstErrorIndex.get(); i++) {
+                try {
+                    persons[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
+                    firstErrorIndex.accumulateAndGet(i, Math::min);
+                }
+            }
+        }
+
+        /**
+         * Throws the error for the earliest invalid person in this batch, if any.
+         */
+        void checkConverted() throws IllegalValueException {
+            int index = firstErrorIndex.get();
+            if (index == Integer.MAX_VALUE) {
+                return;
+            }
+            String studentId = adaptedPersons.get(index).getStudentId();
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, firstRecordIndex + index + 1,
+                    studentId == null ? "" : " (" + studentId + ")", errors[index].getMessage()));
+        }
+    }
+}
@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -36,4 +39,53 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Timeslots
     @Override
     void saveTimeslots(ReadOnlyTimeslots timeslots) throws IOException;
 
+    /**
+     * Returns the path of the operation journal.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the changes recorded in the operation journal since the data files were last written, oldest first.
+     * They should be replayed on top of the data read from the address book and timeslots files.
+     *
+     * @throws DataLoadingException if the journal could not be read.
+     */
+    List<ModelChange> readJournal() throws DataLoadingException;
+
+    /**
+     * Empties the operation journal and marks both data files as needing to be written, so that the next save
+     * writes them in full. Used when the data files could not be loaded and the app starts afresh instead.
+     *
+     * @throws IOException if the journal could not be emptied.
+     */
+    void discardJournal() throws IOException;
+
+    /**
+     * Persists {@code changes}, which have already been applied to {@code addressBook} and {@code timeslots}.
+     * The changes are appended to the operation journal where possible; otherwise the journal is compacted.
+     * Implementations may save in the background, in which case errors go to the write error handler instead.
+     *
+     * @throws IOException if there was an error writing to the journal or the data files.
+     */
+    void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots)
+            throws IOException;
+
+    /**
+     * Writes {@code addressBook} and {@code timeslots} to their data files and empties the operation journal.
+     * Waits for any changes still being saved first, and does nothing if the journal is then empty and the data
+     * files are up to date.
+     *
+     * @throws IOException if there was an error writing to the data files or the journal.
+     */
+    void compact(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException;
+
+    /**
+     * Sets the handler for errors from saves that happen in the background rather than in {@link #saveChanges}.
+     */
+    void setWriteErrorHandler(Consumer<IOException> writeErrorHandler);
+
+    /**
+     * Waits until every change passed to {@link #saveChanges} has been saved, or has failed to save.
+     */
+    void flush();
 }
@@ -1,35 +1,110 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Changes made by commands are appended to an operation journal kept next to the address book file, and the
+ * address book and timeslots files are only rewritten when the journal is compacted, and then only if they are
+ * missing some journaled change.
+ *
+ * In write-behind mode, {@link #saveChanges} only queues the changes and returns immediately. A single background
+ * writer then saves everything queued since its last save in one go, so a burst of commands costs one write, and
+ * errors are reported through the write error handler instead of being thrown. Changes that are journaled are
+ * immutable, so the data is only copied for the writer when the data files will have to be rewritten.
  */
 public class StorageManager implements Storage {
 
+    /** Number of journal records after which the next save compacts the journal into the data files. */
+    public static final int COMPACTION_THRESHOLD = 500;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private TimeslotsStorage timeslotStorage;
+    private JsonOperationJournal journal;
+    // Set while the journal may be missing changes that the data files do not have either. Read by callers queueing
+    // changes in write-behind mode, so that they bring a snapshot to rewrite the data files from.
+    private volatile boolean isCompactionPending;
+    // Set while the address book or timeslots file is missing changes made since it was last written
+    private boolean isAddressBookDirty;
+    private boolean isTimeslotsDirty;
+
+    private ExecutorService writer; // null unless in write-behind mode
+    private Consumer<IOException> writeErrorHandler = e ->
+            logger.warning("Failed to save changes in the background " + StringUtil.getDetails(e));
+    // Changes waiting for the writer, and snapshots of the data after the latest of them; guarded by queueLock
+    private final Object queueLock = new Object();
+    private List<ModelChange> queuedChanges = new ArrayList<>();
+    private ReadOnlyAddressBook queuedAddressBook;
+    private ReadOnlyTimeslots queuedTimeslots;
+    // Set by the writer when it could not rewrite the data files for lack of a snapshot, so that the next queued
+    // changes bring one. It starts set as the data files may not exist yet.
+    private volatile boolean isSnapshotNeeded = true;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * The operation journal is kept in the same directory as the address book file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           TimeslotsStorage timeslotStorage) {
+        this(addressBookStorage, userPrefsStorage, timeslotStorage, new JsonOperationJournal(
+                addressBookStorage.getAddressBookFilePath().resolveSibling(JsonOperationJournal.DEFAULT_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages and operation journal.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          TimeslotsStorage timeslotStorage, JsonOperationJournal journal) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.timeslotStorage = timeslotStorage;
+        this.journal = journal;
+    }
+
+    /**
+     * Returns a storage for the address book at {@code filePath}, which is kept in the binary format if its name
+     * ends with {@value BinaryDataFile#FILE_EXTENSION}, or as JSON otherwise.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path filePath) {
+        if (BinaryDataFile.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        return new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns a storage for the timeslots at {@code filePath}, in the same format as
+     * {@link #createAddressBookStorage(Path)} would choose.
+     */
+    public static TimeslotsStorage createTimeslotsStorage(Path filePath) {
+        if (BinaryDataFile.isBinaryFile(filePath)) {
+            return new BinaryTimeslotsStorage(filePath);
+        }
+        return new JsonTimeslotsStorage(filePath);
     }
 
     // ================ UserPrefs methods ==============================
@@ -108,4 +183,244 @@ public class StorageManager implements Storage {
         timeslotStorage.saveTimeslots(timeslots, filePath);
     }
 
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return journal.getJournalFilePath();
+    }
+
+    @Override
+    public List<ModelChange> readJournal() throws DataLoadingException {
+        logger.fine("Attempting to read journal from file: " + journal.getJournalFilePath());
+        markAllDirty(true);
+        List<ModelChange> changes = journal.readChanges();
+        // Records appended after an unreadable one would never be replayed, so start afresh from the data files
+        markAllDirty(!journal.isIntact());
+        markDirty(changes);
+        return changes;
+    }
+
+    @Override
+    public void discardJournal() throws IOException {
+        flush();
+        logger.fine("Discarding journal at " + journal.getJournalFilePath());
+        // The data files are rewritten by the next save, even if emptying the journal fails
+        markAllDirty(true);
+        journal.clear();
+    }
+
+    @Override
+    public void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots)
+            throws IOException {
+        if (writer != null) {
+            queueChanges(changes, addressBook, timeslots);
+            return;
+        }
+        writeChanges(changes, addressBook, timeslots);
+    }
+
+    /**
+     * Saves {@code changes}. {@code addressBook} and {@code timeslots} are the data after the changes, or null if
+     * the writer was given no snapshot of them, in which case {@code changes} are all replayable.
+     */
+    private void writeChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook,
+            ReadOnlyTimeslots timeslots) throws IOException {
+        if (changes.isEmpty() && !isCompactionPending) {
+            return;
+        }
+        markDirty(changes);
+        if (isCompactionPending || !canJournal(changes)) {
+            if (addressBook != null) {
+                writeDataFiles(addressBook, timeslots);
+                return;
+            }
+            // Changes without a snapshot are all replayable, and the next queued changes bring one
+            isSnapshotNeeded = true;
+            if (!hasDataFiles()) {
+                // There is nothing to replay the changes onto, so they are saved with the next snapshot instead
+                isCompactionPending = true;
+                return;
+            }
+            // Journal them anyway, so that they are not lost if the app stops before the next snapshot is written
+        }
+
+        logger.fine("Appending " + changes.size() + " change(s) to journal: " + journal.getJournalFilePath());
+        try {
+            journal.append(changes);
+        } catch (IOException e) {
+            // The journal may now be missing these changes, or hold only part of them
+            isCompactionPending = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code changes} can be appended to the journal rather than requiring the data files to be
+     * rewritten.
+     */
+    private boolean canJournal(List<ModelChange> changes) throws IOException {
+        // The journal is replayed on top of the data files, so it is meaningless without them
+        if (!hasDataFiles()) {
+            return false;
+        }
+        if (journal.size() + changes.size() > COMPACTION_THRESHOLD) {
+            return false;
+        }
+        return isReplayable(changes);
+    }
+
+    private boolean hasDataFiles() {
+        return Files.exists(getAddressBookFilePath()) && Files.exists(getTimeslotsFilePath());
+    }
+
+    private static boolean isReplayable(List<ModelChange> changes) {
+        return changes.stream().allMatch(ModelChange::isReplayable);
+    }
+
+    private void markDirty(List<ModelChange> changes) {
+        for (ModelChange change : changes) {
+            if (change.isTimeslotsChange()) {
+                isTimeslotsDirty = true;
+            } else {
+                isAddressBookDirty = true;
+            }
+        }
+    }
+
+    /**
+     * Sets whether a compaction is pending, and if so marks both data files as needing to be written.
+     */
+    private void markAllDirty(boolean isDirty) {
+        isCompactionPending = isDirty;
+        isAddressBookDirty = isDirty;
+        isTimeslotsDirty = isDirty;
+    }
+
+    @Override
+    public void compact(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException {
+        flush();
+        if (!isCompactionPending && journal.size() == 0) {
+            return;
+        }
+        writeDataFiles(addressBook, timeslots);
+    }
+
+    /**
+     * Writes the data files that are missing changes, or missing altogether, and then empties the journal.
+     */
+    private void writeDataFiles(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException {
+        logger.fine("Compacting journal into data files");
+        isCompactionPending = true;
+        if (isAddressBookDirty || !Files.exists(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            isAddressBookDirty = false;
+        }
+        if (isTimeslotsDirty || !Files.exists(getTimeslotsFilePath())) {
+            saveTimeslots(timeslots);
+            isTimeslotsDirty = false;
+        }
+        journal.clear();
+        isCompactionPending = false;
+    }
+
+    // ================ Write-behind methods ==============================
+
+    /**
+     * Turns write-behind mode on or off. Turning it off first waits for queued changes to be saved.
+     */
+    public void setWriteBehind(boolean isWriteBehind) {
+        if (isWriteBehind == (writer != null)) {
+            return;
+        }
+        if (isWriteBehind) {
+            writer = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "storage-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            return;
+        }
+        flush();
+        writer.shutdown();
+        writer = null;
+    }
+
+    @Override
+    public void setWriteErrorHandler(Consumer<IOException> writeErrorHandler) {
+        this.writeErrorHandler = writeErrorHandler;
+    }
+
+    @Override
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            // The writer runs tasks in order, so once this no-op has run every earlier save has completed
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Queues {@code changes} for the writer, which is woken only if nothing was already queued.
+     * The data is only copied, here on the caller's thread so that the writer never sees it mid-change, if the writer
+     * will rewrite the data files from it: when some change cannot be journaled, when the writer asked for a
+     * snapshot, when a compaction is pending, or when a snapshot is already queued, as that one would now be missing
+     * {@code changes}.
+     */
+    private void queueChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook,
+            ReadOnlyTimeslots timeslots) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        boolean isSnapshotQueued;
+        synchronized (queueLock) {
+            isSnapshotQueued = queuedAddressBook != null;
+        }
+        AddressBook addressBookSnapshot = null;
+        Timeslots timeslotsSnapshot = null;
+        if (isSnapshotNeeded || isCompactionPending || isSnapshotQueued || !isReplayable(changes)) {
+            isSnapshotNeeded = false;
+            addressBookSnapshot = new AddressBook(addressBook);
+            timeslotsSnapshot = new Timeslots(timeslots);
+        }
+        boolean isWriterIdle;
+        synchronized (queueLock) {
+            isWriterIdle = queuedChanges.isEmpty();
+            queuedChanges.addAll(changes);
+            if (addressBookSnapshot != null) {
+                queuedAddressBook = addressBookSnapshot;
+                queuedTimeslots = timeslotsSnapshot;
+            }
+        }
+        if (isWriterIdle) {
+            writer.execute(this::writeQueuedChanges);
+        }
+    }
+
+    private void writeQueuedChanges() {
+        List<ModelChange> changes;
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyTimeslots timeslots;
+        synchronized (queueLock) {
+            changes = queuedChanges;
+            addressBook = queuedAddressBook;
+            timeslots = queuedTimeslots;
+            queuedChanges = new ArrayList<>();
+            queuedAddressBook = null;
+            queuedTimeslots = null;
+        }
+        try {
+            writeChanges(changes, addressBook, timeslots);
+        } catch (IOException e) {
+            // The data files are rewritten from the next snapshot
+            isSnapshotNeeded = true;
+            writeErrorHandler.accept(e);
+        }
+    }
 }
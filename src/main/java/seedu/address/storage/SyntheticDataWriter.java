@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Writes a generated roster and timeslots to data files that the app can open, through the same storage classes
+ * the app uses for the format of each file.
+ *
+ * Run from the command line with
+ * {@code ./gradlew generateData --args="--students 100000 --timeslots 5000 --format bin"} to replace the files in
+ * {@code data/}, or call {@link #write} from tests and benchmarks.
+ */
+public class SyntheticDataWriter {
+
+    public static final String MESSAGE_USAGE = "Usage: SyntheticDataWriter [--students COUNT] [--timeslots COUNT] "
+            + "[--seed SEED] [--week WEEK] [--first-day YYYY-MM-DD] [--dir DIRECTORY] [--format json|bin]";
+    public static final int DEFAULT_STUDENT_COUNT = 1000;
+    public static final int DEFAULT_TIMESLOT_COUNT = 200;
+    /** A Monday, so that generated timeslots do not depend on the day they are generated on. */
+    public static final LocalDate DEFAULT_FIRST_DAY = LocalDate.of(2025, 1, 6);
+
+    private static final Logger logger = LogsCenter.getLogger(SyntheticDataWriter.class);
+
+    private SyntheticDataWriter() {}
+
+    /**
+     * Generates {@code studentCount} students and {@code timeslotCount} timeslots from {@code firstDay} with
+     * {@code generator}, and saves them to {@code addressBookFilePath} and {@code timeslotsFilePath}.
+     * Each file is saved in the binary format if its name ends with {@value BinaryDataFile#FILE_EXTENSION}, or as
+     * JSON otherwise.
+     *
+     * @throws IOException if there was an error writing either file.
+     */
+    public static void write(SyntheticDataGenerator generator, int studentCount, int timeslotCount,
+                             LocalDate firstDay, Path addressBookFilePath, Path timeslotsFilePath) throws IOException {
+        requireNonNull(generator);
+        requireNonNull(addressBookFilePath);
+        requireNonNull(timeslotsFilePath);
+
+        AddressBook addressBook = generator.generateAddressBook(studentCount);
+        Timeslots timeslots = generator.generateTimeslots(timeslotCount, firstDay, addressBook.getPersonList());
+        StorageManager.createAddressBookStorage(addressBookFilePath).saveAddressBook(addressBook);
+        StorageManager.createTimeslotsStorage(timeslotsFilePath).saveTimeslots(timeslots);
+        logger.info("Wrote " + studentCount + " students to " + addressBookFilePath + " and " + timeslotCount
+                + " timeslots to " + timeslotsFilePath);
+    }
+
+    /**
+     * Writes generated data files as described by the command line arguments in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) {
+        int studentCount = DEFAULT_STUDENT_COUNT;
+        int timeslotCount = DEFAULT_TIMESLOT_COUNT;
+        long seed = SyntheticDataGenerator.DEFAULT_SEED;
+        int week = SyntheticDataGenerator.DEFAULT_WEEK;
+        LocalDate firstDay = DEFAULT_FIRST_DAY;
+        Path directory = Paths.get("data");
+        String extension = ".json";
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                case "--students":
+                    studentCount = Integer.parseInt(value);
+                    break;
+                case "--timeslots":
+                    timeslotCount = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--week":
+                    week = Integer.parseInt(value);
+                    break;
+                case "--first-day":
+                    firstDay = LocalDate.parse(value);
+                    break;
+                case "--dir":
+                    directory = Paths.get(value);
+                    break;
+                case "--format":
+                    if (!value.equals("json") && !value.equals("bin")) {
+                        throw new IllegalArgumentException("Unknown format " + value);
+                    }
+                    extension = value.equals("bin") ? BinaryDataFile.FILE_EXTENSION : ".json";
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            write(new SyntheticDataGenerator(seed, week), studentCount, timeslotCount, firstDay,
+                    directory.resolve("addressbook" + extension), directory.resolve("timeslots" + extension));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not write the data files: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.ui;
+
+import java.util.StringJoiner;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.LabList;
+
+/**
+ * A ui for the class-wide statistics of the students, shown above the student list.
+ */
+public class ClassStatisticsPanel extends UiPart<Region> {
+
+    private static final String FXML = "ClassStatisticsPanel.fxml";
+
+    @FXML
+    private Label exercises;
+
+    @FXML
+    private Label labs;
+
+    @FXML
+    private Label exams;
+
+    /**
+     * Creates a {@code ClassStatisticsPanel} showing {@code statistics} in {@code currentWeek}.
+     */
+    public ClassStatisticsPanel(ClassStatistics statistics, Week currentWeek) {
+        super(FXML);
+        setStatistics(statistics, currentWeek);
+    }
+
+    /**
+     * Updates the panel to show {@code statistics} in {@code currentWeek}, which takes constant time however many
+     * students there are.
+     */
+    public void setStatistics(ClassStatistics statistics, Week currentWeek) {
+        StringJoiner exerciseRates = new StringJoiner("  ", "Exercises done: ", "");
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            exerciseRates.add("EX" + i + " " + statistics.getCompletionRate(i) + "%");
+        }
+        exercises.setText(exerciseRates + "  |  Overdue: " + statistics.getTotalOverdueCount(currentWeek));
+
+        StringJoiner labCounts = new StringJoiner("  ", "Labs attended: ", "");
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            labCounts.add("L" + (i + 1) + " " + statistics.getAttendedCount(i) + "/" + statistics.getPersonCount());
+        }
+        labs.setText(labCounts.toString());
+
+        StringJoiner passRates = new StringJoiner("  ", "Exams passed: ", "");
+        for (String examName : GradeMap.VALID_EXAM_NAMES) {
+            passRates.add(examName.toUpperCase() + " " + statistics.getPassRate(examName) + "%");
+        }
+        exams.setText(passRates.toString());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -35,6 +36,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private StatusBarFooter statusBarFooter;
+    private ClassStatisticsPanel classStatisticsPanel;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -48,6 +50,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane classStatisticsPanelPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
@@ -112,15 +117,20 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic::getCurrentWeek);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // Data is saved in the background, so failures are reported here rather than by the failing command
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getCurrentWeek());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        classStatisticsPanel = new ClassStatisticsPanel(logic.getClassStatistics(), logic.getCurrentWeek());
+        classStatisticsPanelPlaceholder.getChildren().add(classStatisticsPanel.getRoot());
+
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
@@ -183,6 +193,7 @@ public class MainWindow extends UiPart<Stage> {
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             statusBarFooter.setCurrentWeek(logic.getCurrentWeek());
+            classStatisticsPanel.setStatistics(logic.getClassStatistics(), logic.getCurrentWeek());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
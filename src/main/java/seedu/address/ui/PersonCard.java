@@ -1,25 +1,33 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Trackable;
 import seedu.address.model.person.TrackerColour;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be rebound to another {@code Person} in place, so that a list cell can keep reusing one card instead of
+ * loading a new one from FXML for every person it shows.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
-
-    public final Person person;
+    // The style class every Label has by default, which setAll would otherwise drop
+    private static final String LABEL_CLASS = "label";
+    private static final String STATUS_LABEL_CLASS = "status-label";
 
     @FXML
     private HBox cardPane;
@@ -45,11 +53,21 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane grades;
 
     /**
-     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display, with statuses as of
+     * {@code currentWeek}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, Week currentWeek) {
         super(FXML);
-        this.person = person;
+        setPerson(person, displayedIndex, currentWeek);
+    }
+
+    /**
+     * Shows {@code person} with the given index and its statuses as of {@code currentWeek} on this card instead of the
+     * person it showed before. Labels are reused, and only those whose text or colour has changed are updated.
+     */
+    public void setPerson(Person person, int displayedIndex, Week currentWeek) {
+        requireAllNonNull(person, currentWeek);
+        // Setting a label to the text it already has does nothing, so unchanged labels are left alone
         id.setText(displayedIndex + ". ");
         studentId.setText(person.getStudentId().value);
         name.setText(person.getName().fullName);
@@ -58,34 +76,56 @@ public class PersonCard extends UiPart<Region> {
         githubUsername.setText(person.getGithubUsername().value);
 
         // Render tags
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        resizeLabels(tags, tagNames.size());
+        for (int i = 0; i < tagNames.size(); i++) {
+            ((Label) tags.getChildren().get(i)).setText(tagNames.get(i));
+        }
 
         // Render trackable sections
-        renderTrackable(exerciseStatus, person.getExerciseTracker(), "exercise");
-        renderTrackable(labAttendance, person.getLabAttendanceList(), "lab");
-        renderTrackable(grades, person.getGradeMap(), "exam");
+        renderTrackable(exerciseStatus, person.getExerciseTracker(), "exercise", currentWeek);
+        renderTrackable(labAttendance, person.getLabAttendanceList(), "lab", currentWeek);
+        renderTrackable(grades, person.getGradeMap(), "exam", currentWeek);
     }
 
     /**
      * Renders a generic Trackable object (e.g., ExerciseTracker, LabList, GradeMap)
      * into the provided FlowPane using its labels and tracker colours.
+     * The labels already in the pane are reused, and a label's style classes are only replaced if its colour changed.
      */
-    private void renderTrackable(FlowPane pane, Trackable trackable, String baseClass) {
-        List<TrackerColour> colours = trackable.getTrackerColours();
+    private void renderTrackable(FlowPane pane, Trackable trackable, String baseClass, Week currentWeek) {
+        List<TrackerColour> colours = trackable.getTrackerColours(currentWeek);
         List<String> labels = trackable.getLabels();
         assert labels.size() == colours.size() : "There must be the same number of labels and colours";
-        pane.getChildren().clear();
+        resizeLabels(pane, labels.size());
         for (int i = 0; i < labels.size(); i++) {
-            Label label = new Label(labels.get(i));
+            Label label = (Label) pane.getChildren().get(i);
+            label.setText(labels.get(i));
             String colourClass = switch (colours.get(i)) {
             case GREEN -> baseClass + "-green";
             case RED -> baseClass + "-red";
             case GREY -> baseClass + "-grey";
             };
-            label.getStyleClass().addAll("status-label", colourClass);
-            pane.getChildren().add(label);
+            ObservableList<String> styleClasses = label.getStyleClass();
+            if (!colourClass.equals(styleClasses.get(styleClasses.size() - 1))) {
+                styleClasses.setAll(LABEL_CLASS, STATUS_LABEL_CLASS, colourClass);
+            }
+        }
+    }
+
+    /**
+     * Adds or removes labels at the end of {@code pane} until it has {@code count} of them.
+     */
+    private static void resizeLabels(FlowPane pane, int count) {
+        List<Node> children = pane.getChildren();
+        if (children.size() > count) {
+            children.subList(count, children.size()).clear();
+        }
+        while (children.size() < count) {
+            children.add(new Label());
         }
     }
 }
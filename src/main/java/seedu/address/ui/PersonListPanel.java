@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +9,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,19 +22,26 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final Supplier<Week> currentWeek;
+
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, whose statuses are shown in the week
+     * given by {@code currentWeek} when each person is displayed.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, Supplier<Week> currentWeek) {
         super(FXML);
+        this.currentWeek = currentWeek;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads its card once and rebinds it to whichever person the list view scrolls into the cell.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +50,12 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(person, getIndex() + 1, currentWeek.get());
+                } else {
+                    personCard.setPerson(person, getIndex() + 1, currentWeek.get());
+                }
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -32,6 +32,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.MergedTimeslotRanges;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -232,9 +233,12 @@ public class TimeslotsWindow {
         // Body: one row per day with timeline pane for the week starting at weekStart
         VBox body = new VBox(6);
         body.setPadding(new Insets(8));
+        // Only the ranges intersecting this week can be drawn, so locate them once by binary search.
+        List<LocalDateTime[]> weekRanges = ranges == null ? null
+                : MergedTimeslotRanges.slice(ranges, weekStart.atStartOfDay(), weekStart.plusDays(7).atStartOfDay());
         for (int i = 0; i < 7; i++) { // 7 days in a week
             LocalDate date = weekStart.plusDays(i);
-            HBox row = buildDayRowForDate(date, ranges, allTimeslots, timelineWidth);
+            HBox row = buildDayRowForDate(date, weekRanges, allTimeslots, timelineWidth);
             body.getChildren().add(row);
         }
 
@@ -39,10 +39,25 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validRecordingPath_success() {
+        parametersStub.namedParameters.put("recording", "session.jfr");
+        expected.setRecordingPath(Paths.get("session.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidRecordingPath_success() {
+        parametersStub.namedParameters.put("recording", "a\0");
+        expected.setRecordingPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", recordingPath=" + appParameters.getRecordingPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +81,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different recording path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setRecordingPath(Paths.get("session.jfr"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,85 @@
+package seedu.address.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.model.ModelChange;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.timeslot.Timeslot;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonOperationJournal;
+import seedu.address.testutil.TypicalPersons;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void stop_afterAppEvents_writesEventsToDestination() throws Exception {
+        Path destination = testFolder.resolve("recording").resolve("session.jfr");
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+
+        FlightRecording flightRecording = FlightRecording.start(destination);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(addressBookFilePath);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        storage.readAddressBook();
+        Timeslots timeslots = new Timeslots();
+        timeslots.addTimeslot(new Timeslot(LocalDateTime.of(2025, 1, 6, 9, 0), LocalDateTime.of(2025, 1, 6, 10, 0)));
+        flightRecording.stop();
+
+        assertEquals(destination, flightRecording.getDestination());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(destination).stream()
+                .filter(event -> event.getEventType().getName().startsWith("seedu.address."))
+                .collect(Collectors.toList());
+
+        List<RecordedEvent> storageEvents = getEvents(events, "seedu.address.StorageIo");
+        assertEquals(2, storageEvents.size());
+        assertEquals(StorageIoEvent.WRITE, storageEvents.get(0).getString("operation"));
+        assertEquals(StorageIoEvent.READ, storageEvents.get(1).getString("operation"));
+        assertTrue(storageEvents.get(1).getLong("bytes") > 0);
+
+        List<RecordedEvent> mutationEvents = getEvents(events, "seedu.address.ModelMutation");
+        assertTrue(mutationEvents.stream().anyMatch(event -> event.getString("collection")
+                .equals(ModelMutationEvent.TIMESLOTS) && event.getString("operation").equals("add")
+                && event.getInt("size") == 1));
+    }
+
+    @Test
+    public void stop_afterJournalAccess_writesStorageEvents() throws Exception {
+        Path destination = testFolder.resolve("journal.jfr");
+        JsonOperationJournal journal = new JsonOperationJournal(testFolder.resolve("journal.jsonl"));
+
+        FlightRecording flightRecording = FlightRecording.start(destination);
+        journal.append(List.of(ModelChange.setWeek(new Week(3))));
+        journal.readChanges();
+        journal.clear();
+        flightRecording.stop();
+
+        List<RecordedEvent> storageEvents = getEvents(RecordingFile.readAllEvents(destination),
+                "seedu.address.StorageIo");
+        assertEquals(3, storageEvents.size());
+        assertEquals(StorageIoEvent.APPEND, storageEvents.get(0).getString("operation"));
+        assertTrue(storageEvents.get(0).getLong("bytes") > 0);
+        assertEquals(StorageIoEvent.READ, storageEvents.get(1).getString("operation"));
+        assertEquals(StorageIoEvent.CLEAR, storageEvents.get(2).getString("operation"));
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentileNanos_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 4; i++) {
+            histogram.record(i);
+        }
+        assertEquals(2, histogram.getPercentileNanos(50));
+        assertEquals(4, histogram.getPercentileNanos(100));
+        assertEquals(2.5, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_uniformValues_withinAnEighth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMaxNanos());
+        assertWithinAnEighth(5_000_000, histogram.getPercentileNanos(50));
+        assertWithinAnEighth(9_500_000, histogram.getPercentileNanos(95));
+        assertWithinAnEighth(9_900_000, histogram.getPercentileNanos(99));
+        assertEquals(10_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_outOfRange_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals((1L << 40) - 1, histogram.getMaxNanos());
+        assertEquals((1L << 40) - 1, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileNanos(101));
+    }
+
+    private static void assertWithinAnEighth(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandStats.Phase;
+
+public class CommandStatsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getReport_nothingRecorded_noCommandsMessage() {
+        assertEquals(CommandStats.MESSAGE_NO_COMMANDS, new CommandStats().getReport());
+    }
+
+    @Test
+    public void getReport_recorded_listsCommandsInOrder() {
+        CommandStats stats = new CommandStats();
+        stats.record("list", Phase.EXECUTE, 2_000_000);
+        stats.record("find", Phase.PARSE, 3_000_000);
+        stats.record("find", Phase.PARSE, 3_000_000);
+
+        String expected = CommandStats.REPORT_HEADER
+                + "\nfind"
+                + "\n  parse        3.000 / 3.000 / 3.000 (max 3.000), count 2"
+                + "\nlist"
+                + "\n  execute      2.000 / 2.000 / 2.000 (max 2.000), count 1";
+        assertEquals(expected, stats.getReport());
+    }
+
+    @Test
+    public void getHistogram_sameCommandAndPhase_sameHistogram() {
+        CommandStats stats = new CommandStats();
+        stats.record("list", Phase.TOTAL, 10);
+        assertEquals(1, stats.getHistogram("list", Phase.TOTAL).getCount());
+        assertEquals(0, stats.getHistogram("list", Phase.SAVE).getCount());
+    }
+
+    @Test
+    public void writeReport_createsFileWithReport() throws Exception {
+        CommandStats stats = new CommandStats();
+        stats.record("list", Phase.EXECUTE, 2_000_000);
+        Path reportFile = testFolder.resolve("reports").resolve("stats.txt");
+        stats.writeReport(reportFile);
+        assertTrue(FileUtil.readFromFile(reportFile).startsWith(stats.getReport()));
+    }
+}
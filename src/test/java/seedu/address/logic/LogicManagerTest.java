@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_INDEX_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -19,9 +20,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.CommandStats.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -79,6 +83,40 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_timingsRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  " + ListCommand.COMMAND_WORD + "  ");
+        CommandStats commandStats = ((LogicManager) logic).getCommandStats();
+        for (Phase phase : new Phase[] {Phase.PARSE, Phase.EXECUTE, Phase.SAVE, Phase.TOTAL}) {
+            assertEquals(2, commandStats.getHistogram(ListCommand.COMMAND_WORD, phase).getCount());
+        }
+        assertEquals(0, commandStats.getHistogram(ListCommand.COMMAND_WORD, Phase.UI_HAND_OFF).getCount());
+    }
+
+    @Test
+    public void execute_commandExecutionError_executeTimingRecorded() {
+        assertThrows(CommandException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 9"));
+        CommandStats commandStats = ((LogicManager) logic).getCommandStats();
+        assertEquals(1, commandStats.getHistogram(DeleteCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(1, commandStats.getHistogram(DeleteCommand.COMMAND_WORD, Phase.TOTAL).getCount());
+        assertEquals(0, commandStats.getHistogram(DeleteCommand.COMMAND_WORD, Phase.SAVE).getCount());
+    }
+
+    @Test
+    public void execute_invalidCommand_parseTimingRecorded() {
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        CommandStats commandStats = ((LogicManager) logic).getCommandStats();
+        assertEquals(1, commandStats.getHistogram(CommandStats.INVALID_INPUT, Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void execute_statsCommand_reportsEarlierCommands() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains("\n" + ListCommand.COMMAND_WORD + "\n"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -91,6 +129,23 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_queryCommandWithFailingStorage_success() throws Exception {
+        // query commands change nothing, so they must not touch storage at all
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTimeslotsStorage(temporaryFolder.resolve("timeslots.json")));
+        logic = new LogicManager(model, storage);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,7 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,7 +25,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.sortcriterion.SortCriterion;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -162,7 +164,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortPersonList(Comparator<Person> comparator) {
+        public void sortPersonList(SortCriterion sortCriterion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getRankedPersons(SortCriterion sortCriterion, int count, boolean isFromBottom) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ClassStatistics getClassStatistics() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.MultiIndex;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
+
+public class ClassStatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_typicalAddressBook_showsStatistics() {
+        String feedback = new ClassStatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ClassStatsCommand.MESSAGE_SUCCESS, 7, 0)));
+        assertTrue(feedback.contains(String.format(ClassStatsCommand.MESSAGE_OVERDUE, 0)));
+        assertTrue(feedback.contains("EX0 0 (0%)"));
+        assertTrue(feedback.contains("PE1 0/0 (0%)"));
+    }
+
+    @Test
+    public void execute_afterMarkAndSetWeek_statisticsUpdated() throws CommandException {
+        ClassStatistics statistics = model.getClassStatistics();
+        assertEquals(0, statistics.getDoneCount(0));
+
+        MultiIndex firstTwoPersons = new MultiIndex(Index.fromOneBased(1), Index.fromOneBased(2));
+        new MarkExerciseCommand(firstTwoPersons, Index.fromZeroBased(0), true).execute(model);
+        assertEquals(2, statistics.getDoneCount(0));
+        assertEquals(28, statistics.getCompletionRate(0));
+
+        new SetWeekCommand(new Week(5)).execute(model);
+        assertEquals(5, statistics.getOverdueCount(0, model.getCurrentWeek()));
+        assertTrue(new ClassStatsCommand().execute(model).getFeedbackToUser().contains("EX0 2 (28%)"));
+    }
+
+    @Test
+    public void equals() {
+        ClassStatsCommand command = new ClassStatsCommand();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ClassStatsCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ListCommand()));
+    }
+}
@@ -2,10 +2,10 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -33,26 +33,26 @@ public class GetTimeslotCommandTest {
     }
 
     @Test
-    public void mergeOverlappingTimeslots_emptyList_returnsEmpty() {
-        List<Timeslot> empty = new ArrayList<>();
-        List<LocalDateTime[]> merged = GetTimeslotCommand.mergeOverlappingTimeslots(empty);
-        assertTrue(merged.isEmpty());
+    public void execute_noTimeslots_returnsNoRanges() throws Exception {
+        CommandResult result = new GetTimeslotCommand().execute(new ModelManager());
+        assertTrue(result.getFeedbackToUser().contains("No timeslots found."));
+        assertNull(result.getTimeslotRanges());
     }
 
     @Test
-    public void mergeOverlappingTimeslots_overlappingAndSeparateIntervals_mergedCorrectly() {
-        List<Timeslot> sorted = new ArrayList<>();
+    public void execute_touchingAndSeparateTimeslots_mergedCorrectly() throws Exception {
+        ModelManager model = new ModelManager();
         // 4 Oct 2025 10:00 - 11:00
-        sorted.add(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
+        model.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
                 LocalDateTime.of(2025, 10, 4, 11, 0)));
-        // 4 Oct 2025 10:30 - 12:00 (overlaps previous)
-        sorted.add(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 30),
+        // 4 Oct 2025 11:00 - 12:00 (touches previous)
+        model.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 11, 0),
                 LocalDateTime.of(2025, 10, 4, 12, 0)));
         // 4 Oct 2025 13:00 - 14:00 (separate)
-        sorted.add(new Timeslot(LocalDateTime.of(2025, 10, 4, 13, 0),
+        model.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 13, 0),
                 LocalDateTime.of(2025, 10, 4, 14, 0)));
 
-        List<LocalDateTime[]> merged = GetTimeslotCommand.mergeOverlappingTimeslots(sorted);
+        List<LocalDateTime[]> merged = new GetTimeslotCommand().execute(model).getTimeslotRanges();
 
         assertEquals(2, merged.size());
 
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+
+public class SetWeekCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newWeek_success() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setCurrentWeek(new Week(7));
+        String expectedMessage = String.format(SetWeekCommand.MESSAGE_SUCCESS, 7,
+                expectedModel.getAddressBook().getPersonList().size());
+
+        assertCommandSuccess(new SetWeekCommand(new Week(7)), model, expectedMessage, expectedModel);
+        assertEquals(new Week(7), model.getCurrentWeek());
+    }
+
+    @Test
+    public void execute_newWeek_statusesDerivedWithoutRebuildingPersons() throws CommandException {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        assertEquals("N", firstPerson.getLabAttendanceList().getLabStatus(0, model.getCurrentWeek()));
+        assertEquals(Status.NOT_DONE, firstPerson.getExerciseTracker().getStatuses(model.getCurrentWeek()).get(0));
+
+        new SetWeekCommand(new Week(5)).execute(model);
+
+        assertSame(firstPerson, model.getFilteredPersonList().get(0));
+        assertEquals("A", firstPerson.getLabAttendanceList().getLabStatus(0, model.getCurrentWeek()));
+        assertEquals(Status.OVERDUE, firstPerson.getExerciseTracker().getStatuses(model.getCurrentWeek()).get(0));
+    }
+
+    @Test
+    public void execute_addressBookCopiedInOtherWeek_weekUnchanged() throws CommandException {
+        new SetWeekCommand(new Week(5)).execute(model);
+        AddressBook otherAddressBook = new AddressBook(model.getAddressBook());
+        otherAddressBook.setCurrentWeek(new Week(1));
+
+        assertEquals(new Week(5), model.getCurrentWeek());
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        assertEquals("A", firstPerson.getLabAttendanceList().getLabStatus(0, model.getCurrentWeek()));
+    }
+
+    @Test
+    public void equals() {
+        SetWeekCommand setWeekThree = new SetWeekCommand(new Week(3));
+
+        assertTrue(setWeekThree.equals(setWeekThree));
+        assertTrue(setWeekThree.equals(new SetWeekCommand(new Week(3))));
+        assertFalse(setWeekThree.equals(new SetWeekCommand(new Week(4))));
+        assertFalse(setWeekThree.equals(null));
+    }
+}
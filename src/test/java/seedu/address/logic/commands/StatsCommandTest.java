@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.CommandStats.Phase;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noFile_showsReport() {
+        CommandStats commandStats = new CommandStats();
+        commandStats.record("list", Phase.TOTAL, 1_000_000);
+        assertCommandSuccess(new StatsCommand(commandStats, Optional.empty()), model, commandStats.getReport(),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_file_writesReport() throws Exception {
+        CommandStats commandStats = new CommandStats();
+        commandStats.record("list", Phase.TOTAL, 1_000_000);
+        Path reportFile = testFolder.resolve("stats.txt");
+        assertCommandSuccess(new StatsCommand(commandStats, Optional.of(reportFile)), model,
+                String.format(StatsCommand.MESSAGE_WRITTEN, reportFile), expectedModel);
+        assertTrue(FileUtil.readFromFile(reportFile).startsWith(commandStats.getReport()));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path blocker = Files.createFile(testFolder.resolve("blocker"));
+        Path reportFile = blocker.resolve("stats.txt");
+        StatsCommand command = new StatsCommand(new CommandStats(), Optional.of(reportFile));
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        CommandStats commandStats = new CommandStats();
+        StatsCommand showCommand = new StatsCommand(commandStats, Optional.empty());
+        StatsCommand writeCommand = new StatsCommand(commandStats, Optional.of(Path.of("stats.txt")));
+
+        assertTrue(showCommand.equals(showCommand));
+        assertTrue(showCommand.equals(new StatsCommand(commandStats, Optional.empty())));
+        assertEquals(writeCommand, new StatsCommand(commandStats, Optional.of(Path.of("stats.txt"))));
+        assertFalse(showCommand.equals(writeCommand));
+        assertFalse(showCommand.equals(new StatsCommand(new CommandStats(), Optional.empty())));
+        assertFalse(showCommand.equals(null));
+        assertFalse(showCommand.equals(1));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.StudentIdInSetPredicate;
+import seedu.address.model.person.sortcriterion.NameSortCriterion;
+import seedu.address.model.person.sortcriterion.StudentIdSortCriterion;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TopCommand}.
+ */
+public class TopCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidAmount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TopCommand(new NameSortCriterion(), 0, false, false));
+        assertThrows(IllegalArgumentException.class, () -> new TopCommand(new NameSortCriterion(), 101, true, false));
+    }
+
+    @Test
+    public void execute_topCount_listsFirstStudents() {
+        TopCommand command = new TopCommand(new NameSortCriterion(), 2, false, false);
+        expectedModel.updateFilteredPersonList(new StudentIdInSetPredicate(
+                Set.of(ALICE.getStudentId(), BENSON.getStudentId())));
+        assertCommandSuccess(command, model, getExpectedMessage("first", ALICE, BENSON), expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_bottomPercentage_listsLastStudentsWithoutSorting() {
+        // 30% of 7 students, rounded up
+        TopCommand command = new TopCommand(new NameSortCriterion(), 30, true, true);
+        expectedModel.updateFilteredPersonList(new StudentIdInSetPredicate(
+                Set.of(ELLE.getStudentId(), FIONA.getStudentId(), GEORGE.getStudentId())));
+        assertCommandSuccess(command, model, getExpectedMessage("last", GEORGE, FIONA, ELLE), expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_moreThanEveryStudent_listsEveryStudent() {
+        model.sortPersonList(new NameSortCriterion());
+        CommandResult result = new TopCommand(new NameSortCriterion(), 100, false, true).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(TopCommand.MESSAGE_SUCCESS, 7, "last", "name")));
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        TopCommand topCommand = new TopCommand(new NameSortCriterion(), 5, false, false);
+
+        // same values -> returns true
+        assertTrue(topCommand.equals(new TopCommand(new NameSortCriterion(), 5, false, false)));
+
+        // same object -> returns true
+        assertTrue(topCommand.equals(topCommand));
+
+        // null -> returns false
+        assertFalse(topCommand.equals(null));
+
+        // different criterion, amount, unit or end -> returns false
+        assertFalse(topCommand.equals(new TopCommand(new StudentIdSortCriterion(), 5, false, false)));
+        assertFalse(topCommand.equals(new TopCommand(new NameSortCriterion(), 6, false, false)));
+        assertFalse(topCommand.equals(new TopCommand(new NameSortCriterion(), 5, true, false)));
+        assertFalse(topCommand.equals(new TopCommand(new NameSortCriterion(), 5, false, true)));
+    }
+
+    private static String getExpectedMessage(String end, Person... ranked) {
+        List<Person> persons = Arrays.asList(ranked);
+        StringBuilder message = new StringBuilder(String.format(TopCommand.MESSAGE_SUCCESS, persons.size(), end,
+                "name"));
+        for (int i = 0; i < persons.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(persons.get(i).getName())
+                    .append(" (").append(persons.get(i).getStudentId()).append(")");
+        }
+        return message.toString();
+    }
+}
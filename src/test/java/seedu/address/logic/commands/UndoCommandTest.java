@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,7 +19,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Week;
+import seedu.address.model.person.ClassStatistics;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.sortcriterion.SortCriterion;
 
 public class UndoCommandTest {
 
@@ -182,7 +184,17 @@ public class UndoCommandTest {
         }
 
         @Override
-        public void sortPersonList(Comparator<Person> comparator) {
+        public void sortPersonList(SortCriterion sortCriterion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getRankedPersons(SortCriterion sortCriterion, int count, boolean isFromBottom) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ClassStatistics getClassStatistics() {
             throw new AssertionError("This method should not be called.");
         }
 
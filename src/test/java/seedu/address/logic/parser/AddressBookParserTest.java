@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LAB_NUMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
@@ -11,11 +12,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_LAB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.MultiIndex;
+import seedu.address.logic.CommandStats;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddConsultationCommand;
+import seedu.address.logic.commands.ClassStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -25,6 +31,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.sortcriterion.NameSortCriterion;
@@ -92,6 +100,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_classStats() throws Exception {
+        assertTrue(parser.parseCommand(ClassStatsCommand.COMMAND_WORD) instanceof ClassStatsCommand);
+    }
+
     @Test
     public void parseCommand_markAttendance() throws Exception {
         MarkAttendanceCommand command = (MarkAttendanceCommand) parser.parseCommand(
@@ -100,6 +113,16 @@ public class AddressBookParserTest {
         assertEquals(new MarkAttendanceCommand(new MultiIndex(INDEX_FIRST_PERSON), INDEX_FIRST_LAB, true), command);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandStats commandStats = new CommandStats();
+        AddressBookParser statsParser = new AddressBookParser(commandStats);
+        assertEquals(new StatsCommand(commandStats, Optional.empty()),
+                statsParser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(commandStats, Optional.of(Paths.get("stats.txt"))),
+                statsParser.parseCommand(StatsCommand.COMMAND_WORD + " " + PREFIX_FILE + "stats.txt"));
+    }
+
     @Test
     public void parseCommand_sort() throws Exception {
         final SortCriterion sortCriterion = new NameSortCriterion();
@@ -109,6 +132,14 @@ public class AddressBookParserTest {
         assertEquals(new SortCommand(sortCriterion), command);
     }
 
+    @Test
+    public void parseCommand_topAndBottom() throws Exception {
+        assertEquals(new TopCommand(new NameSortCriterion(), 3, false, false),
+                parser.parseCommand(TopCommand.COMMAND_WORD + " 3 " + PREFIX_SORT_CRITERION + "name"));
+        assertEquals(new TopCommand(new NameSortCriterion(), 10, true, true),
+                parser.parseCommand(TopCommand.BOTTOM_COMMAND_WORD + " 10% " + PREFIX_SORT_CRITERION + "name"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
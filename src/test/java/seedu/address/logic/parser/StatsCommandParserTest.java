@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private final CommandStats commandStats = new CommandStats();
+    private final StatsCommandParser parser = new StatsCommandParser(commandStats);
+
+    @Test
+    public void parse_noArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(commandStats, Optional.empty()));
+        assertParseSuccess(parser, "   ", new StatsCommand(commandStats, Optional.empty()));
+    }
+
+    @Test
+    public void parse_filePath_returnsStatsCommand() {
+        assertParseSuccess(parser, " f/ reports/stats.txt ",
+                new StatsCommand(commandStats, Optional.of(Paths.get("reports", "stats.txt"))));
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " all",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emptyFilePath_throwsParseException() {
+        assertParseFailure(parser, " f/ ", StatsCommandParser.MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_repeatedFilePath_throwsParseException() {
+        assertParseFailure(parser, " f/a.txt f/b.txt",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FILE));
+    }
+}
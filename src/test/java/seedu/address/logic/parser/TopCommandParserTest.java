@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.model.person.sortcriterion.LabSortCriterion;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+
+public class TopCommandParserTest {
+    private TopCommandParser topParser = new TopCommandParser(false);
+    private TopCommandParser bottomParser = new TopCommandParser(true);
+
+    @Test
+    public void parse_validArgs_returnsTopCommand() {
+        assertParseSuccess(topParser, " 20 " + PREFIX_SORT_CRITERION + "lab",
+                new TopCommand(new LabSortCriterion(), 20, false, false));
+        assertParseSuccess(bottomParser, " 10% " + PREFIX_SORT_CRITERION + "LAB",
+                new TopCommand(new LabSortCriterion(), 10, true, true));
+        assertParseSuccess(bottomParser, " 100% " + PREFIX_SORT_CRITERION + "lab",
+                new TopCommand(new LabSortCriterion(), 100, true, true));
+    }
+
+    @Test
+    public void parse_invalidAmount_failure() {
+        String expectedMessage = TopCommandParser.MESSAGE_INVALID_AMOUNT;
+        assertParseFailure(topParser, " 0 " + PREFIX_SORT_CRITERION + "lab", expectedMessage);
+        assertParseFailure(topParser, " -3 " + PREFIX_SORT_CRITERION + "lab", expectedMessage);
+        assertParseFailure(topParser, " 101% " + PREFIX_SORT_CRITERION + "lab", expectedMessage);
+        assertParseFailure(topParser, " % " + PREFIX_SORT_CRITERION + "lab", expectedMessage);
+        assertParseFailure(topParser, " ten " + PREFIX_SORT_CRITERION + "lab", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidSortCriterion_failure() {
+        assertParseFailure(topParser, " 5 " + PREFIX_SORT_CRITERION + "email", SortCriterion.MESSAGE_CONSTRAINTS);
+        assertParseFailure(topParser, " 5 " + PREFIX_SORT_CRITERION + "lab " + PREFIX_SORT_CRITERION + "ex",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SORT_CRITERION));
+    }
+
+    @Test
+    public void parse_missingCompulsoryField_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE);
+        assertParseFailure(topParser, "", expectedMessage);
+        assertParseFailure(topParser, " 5", expectedMessage);
+        assertParseFailure(topParser, " " + PREFIX_SORT_CRITERION + "lab", expectedMessage);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.Timeslot;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModelChangeTest {
+
+    private static final Timeslot SLOT = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0),
+            LocalDateTime.of(2025, 10, 1, 10, 0));
+
+    @Test
+    public void applyTo_sequence_matchesDirectMutations() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        List<ModelChange> changes = List.of(
+                ModelChange.addPerson(ALICE),
+                ModelChange.addPerson(BOB),
+                ModelChange.setPerson(ALICE.getStudentId(), editedAlice),
+                ModelChange.deletePerson(BOB.getStudentId()),
+                ModelChange.setWeek(new Week(4)),
+                ModelChange.addTimeslot(SLOT));
+
+        AddressBook addressBook = new AddressBook();
+        Timeslots timeslots = new Timeslots();
+        changes.forEach(change -> change.applyTo(addressBook, timeslots));
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(editedAlice);
+        expectedAddressBook.setCurrentWeek(new Week(4));
+        assertEquals(expectedAddressBook, addressBook);
+        assertTrue(timeslots.hasTimeslot(SLOT));
+
+        // replaying changes that are already reflected in the data has no further effect
+        changes.forEach(change -> change.applyTo(addressBook, timeslots));
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(1, timeslots.getTimeslotList().size());
+    }
+
+    @Test
+    public void applyTo_reset_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> ModelChange.resetAddressBook().applyTo(new AddressBook(),
+                new Timeslots()));
+    }
+}
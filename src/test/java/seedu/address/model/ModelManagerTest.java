@@ -7,16 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +100,74 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_searchablePredicateThenEdit_listFollowsEdit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinedFilterThenEdit_listFollowsEdit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        NameContainsKeywordsPredicate aliceOrBenson =
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "benson"));
+        NameContainsKeywordsPredicate bensonOrCarl =
+                new NameContainsKeywordsPredicate(Arrays.asList("benson", "carl"));
+        modelManager.updateFilteredPersonList(new FilterCombinedPredicate(Arrays.asList(aliceOrBenson)));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(
+                new FilterCombinedPredicate(Arrays.asList(aliceOrBenson, bensonOrCarl)));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Carl").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new FilterCombinedPredicate(Arrays.asList(aliceOrBenson)));
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_weekRelativePredicate_filteredAgainWhenWeekChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        AddressBook weekZeroAddressBook = new AddressBook(modelManager.getAddressBook());
+        modelManager.updateFilteredPersonList(new LabStatusMatchesPredicate(Index.fromZeroBased(0), "A"));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // lab 1 is over in week 5, so students who did not attend it are absent
+        modelManager.setCurrentWeek(new Week(5));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(weekZeroAddressBook);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void takeChanges_afterMutations_returnsChangesInOrderOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.setPerson(ALICE, BENSON);
+        modelManager.setCurrentWeek(new Week(0));
+        assertEquals(Arrays.asList(ModelChange.addPerson(ALICE), ModelChange.setPerson(ALICE.getStudentId(), BENSON),
+                ModelChange.setWeek(new Week(0))), modelManager.takeChanges());
+        assertTrue(modelManager.takeChanges().isEmpty());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+
+public class PersonMatchCacheTest {
+
+    private static final List<Person> PERSONS = List.of(ALICE, BENSON, CARL);
+
+    private final AtomicLong version = new AtomicLong();
+    private final PersonMatchCache cache = new PersonMatchCache(version::get);
+    private final List<Person> testedPersons = new ArrayList<>();
+
+    private final Predicate<Person> isAliceOrBenson = person -> person == ALICE || person == BENSON;
+    private final Predicate<Person> isNotAlice = person -> person != ALICE;
+
+    @Test
+    public void reuse_recordedPredicate_acceptsMatchesWithoutTesting() {
+        Predicate<Person> predicate = new FilterCombinedPredicate(List.of(isAliceOrBenson));
+        cache.record(predicate, List.of(ALICE, BENSON), PERSONS.size());
+
+        Predicate<Person> reused = cache.reuse(new FilterCombinedPredicate(List.of(isAliceOrBenson)),
+                recording(predicate));
+        assertEquals(List.of(ALICE, BENSON), filter(reused));
+        assertEquals(List.of(), testedPersons);
+    }
+
+    @Test
+    public void reuse_refinementOfLastPredicate_testsOnlyItsMatches() {
+        cache.record(new FilterCombinedPredicate(List.of(isAliceOrBenson)), List.of(ALICE, BENSON), PERSONS.size());
+
+        Predicate<Person> refinement = new FilterCombinedPredicate(List.of(isAliceOrBenson, isNotAlice));
+        assertEquals(List.of(BENSON), filter(cache.reuse(refinement, recording(refinement))));
+        assertEquals(List.of(ALICE, BENSON), testedPersons);
+    }
+
+    @Test
+    public void reuse_notRefinementOfLastPredicate_testsEveryPerson() {
+        cache.record(new FilterCombinedPredicate(List.of(isAliceOrBenson)), List.of(ALICE, BENSON), PERSONS.size());
+        cache.record(new FilterCombinedPredicate(List.of(person -> person == CARL)), List.of(CARL), PERSONS.size());
+
+        Predicate<Person> predicate = new FilterCombinedPredicate(List.of(isAliceOrBenson, isNotAlice));
+        Predicate<Person> testedPredicate = recording(predicate);
+        assertSame(testedPredicate, cache.reuse(predicate, testedPredicate));
+    }
+
+    @Test
+    public void reuse_personsChangedSinceRecorded_testsEveryPerson() {
+        Predicate<Person> predicate = new FilterCombinedPredicate(List.of(isAliceOrBenson));
+        cache.record(predicate, List.of(ALICE, BENSON), PERSONS.size());
+        version.incrementAndGet();
+
+        Predicate<Person> testedPredicate = recording(predicate);
+        assertSame(testedPredicate, cache.reuse(predicate, testedPredicate));
+    }
+
+    @Test
+    public void reuse_personsChangeWhileReused_testsChangedPersons() {
+        Predicate<Person> predicate = new FilterCombinedPredicate(List.of(isAliceOrBenson));
+        cache.record(predicate, List.of(ALICE, BENSON), PERSONS.size());
+        Predicate<Person> reused = cache.reuse(predicate, recording(predicate));
+        version.incrementAndGet();
+
+        assertEquals(List.of(ALICE, BENSON), filter(reused));
+        assertEquals(PERSONS, testedPersons);
+    }
+
+    @Test
+    public void record_everyPersonMatches_notReused() {
+        Predicate<Person> predicate = person -> true;
+        cache.record(predicate, PERSONS, PERSONS.size());
+
+        Predicate<Person> testedPredicate = recording(predicate);
+        assertSame(testedPredicate, cache.reuse(predicate, testedPredicate));
+    }
+
+    private Predicate<Person> recording(Predicate<Person> predicate) {
+        return person -> {
+            testedPersons.add(person);
+            return predicate.test(person);
+        };
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return PERSONS.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -1,11 +1,18 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.timeslot.ConsultationTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 public class TimeslotsTest {
@@ -25,4 +32,137 @@ public class TimeslotsTest {
 
         assertThrows(IllegalArgumentException.class, () -> timeslots.addTimeslot(b));
     }
+
+    @Test
+    public void setTimeslots_nonOverlapping_listedInStartOrder() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot late = new Timeslot(LocalDateTime.of(2025, 10, 1, 14, 0), LocalDateTime.of(2025, 10, 1, 15, 0));
+        Timeslot early = new Timeslot(LocalDateTime.of(2025, 10, 1, 10, 0), LocalDateTime.of(2025, 10, 1, 11, 0));
+        Timeslot adjacent = new Timeslot(LocalDateTime.of(2025, 10, 1, 11, 0), LocalDateTime.of(2025, 10, 1, 12, 0));
+
+        timeslots.setTimeslots(Arrays.asList(late, early, adjacent));
+        assertEquals(Arrays.asList(early, adjacent, late), timeslots.getTimeslotList());
+    }
+
+    @Test
+    public void setTimeslots_overlapping_throwsIllegalArgumentExceptionAndKeepsContents() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot slot = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0));
+        timeslots.addTimeslot(slot);
+        Timeslot longSlot = new Timeslot(LocalDateTime.of(2025, 10, 2, 9, 0), LocalDateTime.of(2025, 10, 2, 17, 0));
+        Timeslot laterSlot = new Timeslot(LocalDateTime.of(2025, 10, 2, 12, 0), LocalDateTime.of(2025, 10, 2, 13, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> timeslots.setTimeslots(Arrays.asList(laterSlot,
+                longSlot)));
+        assertEquals(Collections.singletonList(slot), timeslots.getTimeslotList());
+        assertTrue(timeslots.hasTimeslot(slot));
+        assertFalse(timeslots.hasTimeslot(longSlot));
+    }
+
+    @Test
+    public void setTimeslots_overlappingOutOfOrder_throwsIllegalArgumentException() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot longSlot = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 17, 0));
+        Timeslot laterSlot = new Timeslot(LocalDateTime.of(2025, 10, 1, 12, 0), LocalDateTime.of(2025, 10, 1, 13, 0));
+        Timeslot earlySlot = new Timeslot(LocalDateTime.of(2025, 10, 1, 7, 0), LocalDateTime.of(2025, 10, 1, 8, 0));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                timeslots.setTimeslots(Arrays.asList(laterSlot, earlySlot, longSlot)));
+    }
+
+    @Test
+    public void getOverlappingTimeslots_range_returnsOverlapsInStartOrder() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot nine = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 30));
+        Timeslot eleven = new Timeslot(LocalDateTime.of(2025, 10, 1, 11, 0), LocalDateTime.of(2025, 10, 1, 12, 0));
+        Timeslot one = new Timeslot(LocalDateTime.of(2025, 10, 1, 13, 0), LocalDateTime.of(2025, 10, 1, 14, 0));
+        Timeslot three = new Timeslot(LocalDateTime.of(2025, 10, 1, 15, 0), LocalDateTime.of(2025, 10, 1, 16, 0));
+        timeslots.setTimeslots(Arrays.asList(three, one, nine, eleven));
+
+        Timeslot range = new Timeslot(LocalDateTime.of(2025, 10, 1, 10, 0), LocalDateTime.of(2025, 10, 1, 13, 0));
+        assertEquals(Arrays.asList(nine, eleven), timeslots.getOverlappingTimeslots(range));
+
+        Timeslot gap = new Timeslot(LocalDateTime.of(2025, 10, 1, 14, 0), LocalDateTime.of(2025, 10, 1, 15, 0));
+        assertEquals(Collections.emptyList(), timeslots.getOverlappingTimeslots(gap));
+    }
+
+    @Test
+    public void hasTimeslot_afterAddAndRemove_reflectsContents() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot slot = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0));
+        Timeslot sameStart = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 11, 0));
+        timeslots.addTimeslot(slot);
+
+        assertTrue(timeslots.hasTimeslot(slot));
+        assertFalse(timeslots.hasTimeslot(sameStart));
+
+        timeslots.removeTimeslot(sameStart);
+        assertTrue(timeslots.hasTimeslot(slot));
+
+        timeslots.removeTimeslot(slot);
+        assertFalse(timeslots.hasTimeslot(slot));
+        assertTrue(timeslots.getTimeslotList().isEmpty());
+
+        timeslots.addTimeslot(sameStart);
+        assertTrue(timeslots.hasTimeslot(sameStart));
+        assertEquals(Collections.singletonList(sameStart), timeslots.getTimeslotList());
+    }
+
+    @Test
+    public void addAndRemoveTimeslot_outOfOrder_listKeptInStartOrder() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot nine = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0));
+        Timeslot eleven = new Timeslot(LocalDateTime.of(2025, 10, 1, 11, 0), LocalDateTime.of(2025, 10, 1, 12, 0));
+        Timeslot one = new Timeslot(LocalDateTime.of(2025, 10, 1, 13, 0), LocalDateTime.of(2025, 10, 1, 14, 0));
+        timeslots.addTimeslot(one);
+        timeslots.addTimeslot(nine);
+        timeslots.addTimeslot(eleven);
+        assertEquals(Arrays.asList(nine, eleven, one), timeslots.getTimeslotList());
+
+        timeslots.removeTimeslot(eleven);
+        assertEquals(Arrays.asList(nine, one), timeslots.getTimeslotList());
+        timeslots.removeTimeslot(nine);
+        assertEquals(Collections.singletonList(one), timeslots.getTimeslotList());
+    }
+
+    @Test
+    public void copyConstructor_copiesIndex() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot slot = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0));
+        timeslots.addTimeslot(slot);
+
+        Timeslots copy = new Timeslots(timeslots);
+        assertEquals(timeslots, copy);
+        assertThrows(IllegalArgumentException.class, () -> copy.addTimeslot(slot));
+
+        timeslots.clear();
+        assertTrue(copy.hasTimeslot(slot));
+    }
+
+    @Test
+    public void getMergedRanges_afterAddRemoveAndClear_trackChanges() {
+        Timeslots timeslots = new Timeslots();
+        Timeslot blocked = new Timeslot(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0));
+        ConsultationTimeslot consultation = new ConsultationTimeslot(LocalDateTime.of(2025, 10, 1, 10, 0),
+                LocalDateTime.of(2025, 10, 1, 11, 0), "Alice");
+        timeslots.addTimeslot(blocked);
+        timeslots.addTimeslot(consultation);
+
+        List<LocalDateTime[]> merged = timeslots.getMergedTimeslotRanges();
+        assertEquals(1, merged.size());
+        assertEquals(blocked.getStart(), merged.get(0)[0]);
+        assertEquals(consultation.getEnd(), merged.get(0)[1]);
+        List<LocalDateTime[]> consultations = timeslots.getMergedConsultationRanges();
+        assertEquals(1, consultations.size());
+        assertEquals(consultation.getStart(), consultations.get(0)[0]);
+
+        timeslots.removeTimeslot(consultation);
+        assertEquals(blocked.getEnd(), timeslots.getMergedTimeslotRanges().get(0)[1]);
+        assertTrue(timeslots.getMergedConsultationRanges().isEmpty());
+
+        Timeslots copy = new Timeslots(timeslots);
+        timeslots.clear();
+        assertTrue(timeslots.getMergedTimeslotRanges().isEmpty());
+        assertEquals(1, copy.getMergedTimeslotRanges().size());
+    }
 }
@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Week;
+import seedu.address.model.person.predicates.ExerciseStatusMatchesPredicate;
+import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class ClassStatisticsTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final ClassStatistics statistics = persons.getStatistics();
+    private Week currentWeek = new Week(0);
+
+    @Test
+    public void counts_generatedRoster_sameAsFiltering() {
+        persons.setPersons(new SyntheticDataGenerator().generatePersons(300));
+        for (int week : new int[] {0, 4, 7, 13}) {
+            setWeek(week);
+            assertCountsMatchFiltering();
+        }
+    }
+
+    @Test
+    public void counts_personsChangedAfterCounting_sameAsFiltering() {
+        List<Person> generatedPersons = new SyntheticDataGenerator().generatePersons(300);
+        persons.setPersons(generatedPersons.subList(0, 200));
+        setWeek(7);
+        assertCountsMatchFiltering();
+
+        for (Person person : generatedPersons.subList(200, 300)) {
+            persons.add(person);
+        }
+        for (Person person : new ArrayList<>(generatedPersons.subList(0, 50))) {
+            persons.remove(person);
+        }
+        for (Person person : new ArrayList<>(generatedPersons.subList(50, 100))) {
+            ExerciseTracker exerciseTracker = person.getExerciseTracker().copy();
+            boolean isDone = exerciseTracker.getStatus(1, currentWeek) == Status.DONE;
+            exerciseTracker.markExercise(Index.fromZeroBased(1), !isDone);
+            persons.setPerson(person, new Person(person.getStudentId(), person.getName(), person.getPhone(),
+                    person.getEmail(), person.getTags(), person.getGithubUsername(), exerciseTracker,
+                    person.getLabAttendanceList(), person.getGradeMap()));
+        }
+        assertEquals(250, statistics.getPersonCount());
+        assertCountsMatchFiltering();
+    }
+
+    @Test
+    public void getPassRate_noOneGraded_returnsZero() {
+        assertEquals(0, statistics.getPassRate("pe1"));
+        assertEquals(0, statistics.getCompletionRate(0));
+    }
+
+    @Test
+    public void getPassedCount_invalidExamName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> statistics.getPassedCount("quiz"));
+    }
+
+    private void assertCountsMatchFiltering() {
+        int personCount = persons.asUnmodifiableObservableList().size();
+        assertEquals(personCount, statistics.getPersonCount());
+
+        int totalOverdueCount = 0;
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            Index exercise = Index.fromZeroBased(i);
+            int doneCount = count(new ExerciseStatusMatchesPredicate(exercise, Status.DONE, currentWeek));
+            int overdueCount = count(new ExerciseStatusMatchesPredicate(exercise, Status.OVERDUE, currentWeek));
+            assertEquals(doneCount, statistics.getDoneCount(i));
+            assertEquals(doneCount * 100 / personCount, statistics.getCompletionRate(i));
+            assertEquals(overdueCount, statistics.getOverdueCount(i, currentWeek));
+            totalOverdueCount += overdueCount;
+        }
+        assertEquals(totalOverdueCount, statistics.getTotalOverdueCount(currentWeek));
+
+        int[] countsByLabsAttended = new int[LabList.NUMBER_OF_LABS + 1];
+        for (Person person : persons) {
+            countsByLabsAttended[Integer.bitCount(CompactLabList.toAttendedMask(person.getLabAttendanceList()))]++;
+        }
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            Index lab = Index.fromZeroBased(i);
+            assertEquals(count(new LabStatusMatchesPredicate(lab, "Y", currentWeek)), statistics.getAttendedCount(i));
+            assertEquals(count(new LabStatusMatchesPredicate(lab, "A", currentWeek)),
+                    statistics.getAbsentCount(i, currentWeek));
+        }
+        for (int labCount = 0; labCount <= LabList.NUMBER_OF_LABS; labCount++) {
+            assertEquals(countsByLabsAttended[labCount], statistics.getCountByLabsAttended(labCount));
+        }
+
+        for (String examName : GradeMap.VALID_EXAM_NAMES) {
+            int passedCount = count(person -> person.getGradeMap().hasExamResult(examName, true));
+            int failedCount = count(person -> person.getGradeMap().hasExamResult(examName, false));
+            assertEquals(passedCount, statistics.getPassedCount(examName));
+            assertEquals(passedCount + failedCount, statistics.getGradedCount(examName));
+        }
+    }
+
+    private void setWeek(int week) {
+        currentWeek = new Week(week);
+    }
+
+    private int count(Predicate<Person> predicate) {
+        return (int) persons.asUnmodifiableObservableList().stream().filter(predicate).count();
+    }
+}
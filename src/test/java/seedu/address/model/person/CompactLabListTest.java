@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Week;
+
+public class CompactLabListTest {
+
+    private static final Week WEEK_ZERO = new Week(0);
+
+    @Test
+    public void constructor_default_noLabsAttended() {
+        CompactLabList labList = new CompactLabList();
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            assertEquals("N", labList.getLabStatus(i, WEEK_ZERO));
+            assertFalse(labList.getLabs()[i].isAttended());
+        }
+        assertEquals(0.0, labList.calculateLabAttendance());
+    }
+
+    @Test
+    public void markLabAsAttended_validIndex_success() {
+        CompactLabList labList = new CompactLabList();
+        labList.markLabAsAttended(0);
+        labList.markLabAsAttended(9);
+
+        assertEquals("Y", labList.getLabStatus(0, WEEK_ZERO));
+        assertEquals("Y", labList.getLabStatus(9, WEEK_ZERO));
+        assertEquals(2.0 / LabList.NUMBER_OF_LABS * 100, labList.calculateLabAttendance());
+        assertThrows(IllegalStateException.class, () -> labList.markLabAsAttended(0));
+    }
+
+    @Test
+    public void markLabAsAbsent_attendedLab_success() {
+        CompactLabList labList = new CompactLabList();
+        assertThrows(IllegalStateException.class, () -> labList.markLabAsAbsent(3));
+
+        labList.markLabAsAttended(3);
+        labList.markLabAsAbsent(3);
+        assertEquals("N", labList.getLabStatus(3, WEEK_ZERO));
+    }
+
+    @Test
+    public void getLabStatus_pastWeek_absent() {
+        Week weekFive = new Week(5);
+        CompactLabList labList = new CompactLabList();
+        labList.markLabAsAttended(0);
+
+        assertEquals("Y", labList.getLabStatus(0, weekFive));
+        assertEquals("A", labList.getLabStatus(1, weekFive));
+        assertEquals("N", labList.getLabStatus(2, weekFive));
+        assertEquals("N", labList.getLabStatus(1, WEEK_ZERO));
+    }
+
+    @Test
+    public void toString_matchesLabListFormat() {
+        LabAttendance[] labs = new LabAttendance[LabList.NUMBER_OF_LABS];
+        for (int i = 0; i < labs.length; i++) {
+            labs[i] = new Lab(i + 1);
+        }
+        LabList labList = new LabList(labs);
+        CompactLabList compactLabList = new CompactLabList();
+        labList.markLabAsAttended(4);
+        compactLabList.markLabAsAttended(4);
+
+        assertEquals(labList.toString(), compactLabList.toString());
+        assertTrue(LabList.isValidLabList(compactLabList.toString()));
+    }
+
+    @Test
+    public void copy_default_success() {
+        CompactLabList labList = new CompactLabList();
+        labList.markLabAsAttended(1);
+        CompactLabList labListCopy = labList.copy();
+        assertNotSame(labList, labListCopy);
+        assertEquals(labList, labListCopy);
+
+        labListCopy.markLabAsAttended(2);
+        assertNotEquals(labList, labListCopy);
+    }
+
+    @Test
+    public void equals() {
+        CompactLabList labList = new CompactLabList(0b101);
+        assertEquals(labList, labList);
+        assertEquals(labList, new CompactLabList(0b101));
+        assertEquals(labList.hashCode(), new CompactLabList(0b101).hashCode());
+        assertNotEquals(labList, new CompactLabList(0b100));
+        assertNotEquals(labList, null);
+    }
+
+    @Test
+    public void equals_labListWithSameAttendance_equal() {
+        LabList labList = new LabList();
+        labList.markLabAsAttended(0);
+        labList.markLabAsAttended(2);
+        CompactLabList compactLabList = new CompactLabList(0b101);
+
+        assertEquals(labList, compactLabList);
+        assertEquals(compactLabList, labList);
+        assertEquals(labList.hashCode(), compactLabList.hashCode());
+        assertNotEquals(new CompactLabList(0b100), labList);
+        assertNotEquals(labList, new CompactLabList(0b100));
+    }
+}
@@ -6,6 +6,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorTestUtil;
+
 public class EmailTest {
 
     @Test
@@ -85,4 +87,10 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_acceptsSameEmailsAsValidationRegex() {
+        ValidatorTestUtil.assertSameLanguage(test -> test.matches(Email.VALIDATION_REGEX), Email::isValidEmail,
+                "a@.-_", 5, "PeterJack_1190@example.com", "a1+be.d@example1.com", "e1234567@u.nus.edu");
+    }
 }
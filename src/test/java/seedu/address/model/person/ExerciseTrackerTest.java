@@ -12,6 +12,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.Week;
+import seedu.address.testutil.ValidatorTestUtil;
 
 public class ExerciseTrackerTest {
 
@@ -44,7 +46,7 @@ public class ExerciseTrackerTest {
 
     @Test
     public void constructor_default_initializesAllToNotDone() {
-        var statuses = tracker.getStatuses();
+        var statuses = tracker.getStatuses(new Week(0));
         assertEquals(10, statuses.size());
         assertTrue(statuses.stream().allMatch(s -> s == Status.NOT_DONE));
     }
@@ -56,9 +58,9 @@ public class ExerciseTrackerTest {
         list.add(false);
         ExerciseTracker tracker2 = new ExerciseTracker(list);
 
-        assertEquals(10, tracker2.getStatuses().size());
-        assertEquals(Status.DONE, tracker2.getStatuses().get(0));
-        assertEquals(Status.NOT_DONE, tracker2.getStatuses().get(1));
+        assertEquals(10, tracker2.getStatuses(new Week(0)).size());
+        assertEquals(Status.DONE, tracker2.getStatuses(new Week(0)).get(0));
+        assertEquals(Status.NOT_DONE, tracker2.getStatuses(new Week(0)).get(1));
     }
 
     // -------------------------------------------------------------------------
@@ -69,7 +71,7 @@ public class ExerciseTrackerTest {
     public void markExercise_validIndex_updatesStatus() {
         Index index = Index.fromZeroBased(3);
         tracker.markExercise(index, true);
-        assertEquals(Status.DONE, tracker.getStatuses().get(3));
+        assertEquals(Status.DONE, tracker.getStatuses(new Week(0)).get(3));
     }
 
     // -------------------------------------------------------------------------
@@ -153,4 +155,31 @@ public class ExerciseTrackerTest {
         assertTrue(t2.compareTo(t1) > 0);
         assertTrue(t1.compareTo(t2) < 0);
     }
+
+    @Test
+    public void isValidExerciseTracker_acceptsSameTrackersAsSplitting() {
+        String valid = "ex 0: N ex 1: D ex 2: O ex 3: I ex 4: N ex 5: N ex 6: D ex 7: O ex 8: N ex 9: I";
+        ValidatorTestUtil.assertSameLanguage(ExerciseTrackerTest::isValidExerciseTrackerBySplitting,
+                ExerciseTracker::isValidExerciseTracker, "ex0: DN\t\u0001", 4, valid, " " + valid + " \n",
+                valid.replace(" ", "  "));
+    }
+
+    /**
+     * Validates {@code trackerString} the way {@code ExerciseTracker#isValidExerciseTracker} used to, by splitting
+     * it into words.
+     */
+    private static boolean isValidExerciseTrackerBySplitting(String trackerString) {
+        String[] parts = trackerString.trim().split("\\s+");
+        if (parts.length != ExerciseTracker.NUMBER_OF_EXERCISES * 3) {
+            return false;
+        }
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            String status = parts[i * 3 + 2];
+            if (!parts[i * 3].equals("ex") || !parts[i * 3 + 1].equals(i + ":")
+                    || !status.equals("N") && !status.equals("D") && !status.equals("I") && !status.equals("O")) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ValidatorTestUtil;
+
+public class GithubUsernameTest {
+
+    @Test
+    public void constructor_invalidGithubUsername_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GithubUsername("-alex"));
+    }
+
+    @Test
+    public void isValidGithubUsername() {
+        // null username
+        assertThrows(NullPointerException.class, () -> GithubUsername.isValidGithubUsername(null));
+
+        // invalid usernames
+        assertFalse(GithubUsername.isValidGithubUsername("")); // empty string
+        assertFalse(GithubUsername.isValidGithubUsername("-alex")); // starts with a hyphen
+        assertFalse(GithubUsername.isValidGithubUsername("alex-")); // ends with a hyphen
+        assertFalse(GithubUsername.isValidGithubUsername("alex--yeoh")); // consecutive hyphens
+        assertFalse(GithubUsername.isValidGithubUsername("alex_yeoh")); // underscore
+        assertFalse(GithubUsername.isValidGithubUsername("a".repeat(40))); // too long
+
+        // valid usernames
+        assertTrue(GithubUsername.isValidGithubUsername("a")); // one character
+        assertTrue(GithubUsername.isValidGithubUsername("alex-yeoh-1"));
+        assertTrue(GithubUsername.isValidGithubUsername("a".repeat(39))); // longest allowed
+    }
+
+    @Test
+    public void isValidGithubUsername_acceptsSameUsernamesAsValidationRegex() {
+        ValidatorTestUtil.assertSameLanguage(test -> test.matches(GithubUsername.VALIDATION_REGEX),
+                GithubUsername::isValidGithubUsername, "aZ9-_ ", 5, "alex-yeoh", "a".repeat(38) + "-b",
+                "b".repeat(39));
+    }
+}
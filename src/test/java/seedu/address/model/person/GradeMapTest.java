@@ -6,9 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Week;
 import seedu.address.model.person.exceptions.InvalidExamNameException;
 
 /**
@@ -120,4 +123,23 @@ public class GradeMapTest {
 
         assertNotEquals(gradeMap, another);
     }
+
+    @Test
+    public void putExam_unknownExamName_ignored() {
+        Examination exam = new Examination("quiz1");
+        exam.markPassed();
+        gradeMap.putExam("quiz1", exam);
+
+        assertEquals(new GradeMap(), gradeMap);
+        assertFalse(gradeMap.getExamMap().containsKey("quiz1"));
+    }
+
+    @Test
+    public void getTrackerColours_reflectsResults() throws InvalidExamNameException {
+        gradeMap.markExamPassed("pe1");
+        gradeMap.markExamFailed("final");
+
+        assertEquals(List.of(TrackerColour.GREEN, TrackerColour.GREY, TrackerColour.GREY, TrackerColour.RED),
+                gradeMap.getTrackerColours(new Week(0)));
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * A stub implementation of {@code Lab} for testing purposes.
  * Provides a simple in-memory tracking of attendance status.
@@ -28,7 +30,7 @@ public class LabAttendanceStub implements LabAttendance {
     }
 
     @Override
-    public String getStatus() {
+    public String getStatus(Week currentWeek) {
         return this.toString();
     }
 
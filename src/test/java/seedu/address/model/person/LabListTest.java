@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorTestUtil;
+
 public class LabListTest {
     public static final String INVALID_LAB_LIST_STATUS =
             "L1: L L2: N L3: N L4: N L5: N L6: N L7: N L8: N L9: N L10: N ";
@@ -152,4 +154,29 @@ public class LabListTest {
         assertEquals(4.0 / LabList.NUMBER_OF_LABS * 100, labAttendanceList.calculateLabAttendance());
 
     }
+
+    @Test
+    public void isValidLabList_acceptsSameListsAsSplitting() {
+        String valid = "L1: Y L2: N L3: A L4: N L5: N L6: Y L7: N L8: N L9: N L10: Y";
+        ValidatorTestUtil.assertSameLanguage(LabListTest::isValidLabListBySplitting, LabList::isValidLabList,
+                "L1: YN\t\u0001", 4, valid, " " + valid + " \n", valid.replace(" ", "  "));
+    }
+
+    /**
+     * Validates {@code labListString} the way {@code LabList#isValidLabList} used to, by splitting it into words.
+     */
+    private static boolean isValidLabListBySplitting(String labListString) {
+        String[] parts = labListString.trim().split("\\s+");
+        if (parts.length != LabList.NUMBER_OF_LABS * 2) {
+            return false;
+        }
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            String status = parts[i * 2 + 1];
+            if (!parts[i * 2].equals("L" + (i + 1) + ":")
+                    || !status.equals("Y") && !status.equals("N") && !status.equals("A")) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -6,6 +6,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorTestUtil;
+
 public class NameTest {
 
     @Test
@@ -57,4 +59,10 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void isValidName_acceptsSameNamesAsValidationRegex() {
+        ValidatorTestUtil.assertSameLanguage(test -> test.matches(Name.VALIDATION_REGEX), Name::isValidName,
+                "aZ9 _\u00e9", 5, "Peter Jack", "Capital Tan", "David Roger Jackson Ray Jr 2nd");
+    }
 }
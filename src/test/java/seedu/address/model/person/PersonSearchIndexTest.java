@@ -0,0 +1,211 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.helpers.Comparison;
+import seedu.address.model.Week;
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ExerciseStatusMatchesPredicate;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+import seedu.address.model.person.predicates.GithubContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.LabAttendanceMatchesPredicate;
+import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.StudentIdContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonSearchIndex index = persons.getSearchIndex();
+
+    @Test
+    public void find_nullField_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null, List.of("alice")));
+    }
+
+    @Test
+    public void find_keywordWithTrigrams_returnsPersonsWithTokenContainingKeyword() {
+        persons.setPersons(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+        // whole token and substring of a token, in either case
+        assertEquals(List.of(BENSON, DANIEL), find(Field.NAME, "meier"));
+        assertEquals(List.of(BENSON, DANIEL, ELLE), find(Field.NAME, "MEI", "Meyer"));
+        assertEquals(List.of(ALICE), find(Field.NAME, "aulin"));
+
+        // shares every trigram with a token but is not contained in it
+        assertEquals(List.of(), find(Field.NAME, "meiermei"));
+
+        // has a trigram no token has
+        assertEquals(List.of(), find(Field.NAME, "xyz"));
+    }
+
+    @Test
+    public void find_shortKeyword_returnsPersonsWithTokenContainingKeyword() {
+        persons.setPersons(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+        assertEquals(List.of(CARL), find(Field.NAME, "rl"));
+        assertEquals(List.of(ALICE, BENSON, DANIEL, ELLE), find(Field.NAME, "e"));
+    }
+
+    @Test
+    public void find_keywordWithWhitespace_returnsEveryPerson() {
+        persons.setPersons(List.of(ALICE, BENSON));
+        assertEquals(List.of(ALICE, BENSON), find(Field.NAME, "alice pauline"));
+    }
+
+    @Test
+    public void find_eachField_searchesThatField() {
+        persons.setPersons(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+        assertEquals(List.of(CARL), find(Field.STUDENT_ID, "a1231232x"));
+        assertEquals(List.of(BENSON), find(Field.EMAIL, "johnd@"));
+        assertEquals(List.of(ELLE), find(Field.GITHUB_USERNAME, "elle"));
+        assertEquals(List.of(ALICE), find(Field.PHONE, "4351"));
+        assertEquals(List.of(ALICE, DANIEL), find(Field.TAG, "upcoming"));
+    }
+
+    @Test
+    public void find_afterListChanges_reflectsChanges() {
+        persons.setPersons(List.of(ALICE, BENSON));
+        assertEquals(List.of(BENSON), find(Field.NAME, "meier"));
+
+        persons.add(DANIEL);
+        assertEquals(List.of(BENSON, DANIEL), find(Field.NAME, "meier"));
+
+        persons.remove(BENSON);
+        assertEquals(List.of(DANIEL), find(Field.NAME, "meier"));
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Kurz").build();
+        persons.setPerson(DANIEL, editedDaniel);
+        assertEquals(List.of(), find(Field.NAME, "meier"));
+        assertEquals(List.of(editedDaniel), find(Field.NAME, "kurz"));
+
+        // slots freed by removed persons are reused
+        persons.add(BENSON);
+        persons.add(ELLE);
+        assertEquals(List.of(BENSON), find(Field.NAME, "meier"));
+        assertEquals(List.of(ELLE), find(Field.NAME, "meyer"));
+
+        persons.setPersons(List.of(CARL, DANIEL));
+        assertEquals(List.of(DANIEL), find(Field.NAME, "meier"));
+    }
+
+    @Test
+    public void getVersion_listChanges_changesVersion() {
+        long version = index.getVersion();
+        persons.add(ALICE);
+        long versionAfterAdd = index.getVersion();
+        persons.remove(ALICE);
+        long versionAfterRemove = index.getVersion();
+        persons.setPersons(List.of(BENSON));
+
+        assertEquals(4, List.of(version, versionAfterAdd, versionAfterRemove, index.getVersion()).stream()
+                .distinct().count());
+    }
+
+    @Test
+    public void narrow_generatedRoster_sameResultAsPredicate() {
+        persons.setPersons(new SyntheticDataGenerator().generatePersons(500));
+        List<String> keywords = List.of("tan", "a00001", "li", "struggling", "9", "wei@");
+        Predicate<Person> predicate = new PersonContainsKeywordsPredicate(List.of(
+                new StudentIdContainsKeywordsPredicate(keywords), new NameContainsKeywordsPredicate(keywords),
+                new EmailContainsKeywordsPredicate(keywords), new GithubContainsKeywordsPredicate(keywords),
+                new PhoneContainsKeywordsPredicate(keywords), new TagContainsKeywordsPredicate(keywords)));
+        Predicate<Person> narrowedPredicate = index.narrow((PersonContainsKeywordsPredicate) predicate);
+
+        assertEquals(filter(predicate), filter(narrowedPredicate));
+
+        // still the same after the list changes under the narrowed predicate
+        Person person = persons.asUnmodifiableObservableList().get(0);
+        persons.setPerson(person, new PersonBuilder(person).withName("Zed Tan").build());
+        assertEquals(filter(predicate), filter(narrowedPredicate));
+    }
+
+    @Test
+    public void narrow_predicateThatCannotBeLookedUp_sameResultAsPredicate() {
+        persons.setPersons(List.of(ALICE, BENSON, CARL));
+        Predicate<Person> predicate = new PersonContainsKeywordsPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("alice")), person -> person.equals(CARL)));
+        Predicate<Person> narrowedPredicate = index.narrow((PersonContainsKeywordsPredicate) predicate);
+        assertEquals(List.of(ALICE, CARL), filter(narrowedPredicate));
+    }
+
+    @Test
+    public void findStatuses_generatedRoster_samePersonsAsPredicates() {
+        persons.setPersons(new SyntheticDataGenerator().generatePersons(300));
+        for (int weekNumber : new int[] {0, 4, 7, 13}) {
+            Week week = new Week(weekNumber);
+            for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+                for (Status status : Status.values()) {
+                    assertEquals(filter(new ExerciseStatusMatchesPredicate(Index.fromZeroBased(i), status, week)),
+                            findSlots(index.findExerciseStatus(i, status, week)));
+                }
+            }
+            for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+                for (String status : List.of("Y", "A", "N")) {
+                    assertEquals(filter(new LabStatusMatchesPredicate(Index.fromZeroBased(i), status, week)),
+                            findSlots(index.findLabStatus(i, status, week)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void narrow_filterCombinedPredicate_boundToWeekAndFollowsEdits() {
+        persons.setPersons(new SyntheticDataGenerator().generatePersons(300));
+        FilterCombinedPredicate predicate = new FilterCombinedPredicate(List.of(
+                new ExerciseStatusMatchesPredicate(Index.fromZeroBased(3), Status.OVERDUE),
+                new LabStatusMatchesPredicate(Index.fromZeroBased(1), "A"),
+                new LabAttendanceMatchesPredicate(90, Comparison.LE)));
+
+        // exercise 3 is not overdue yet and lab 2 is not over yet in week 4
+        assertEquals(List.of(), filter(index.narrow(predicate.atWeek(new Week(4)))));
+
+        FilterCombinedPredicate weekSevenPredicate = predicate.atWeek(new Week(7));
+        Predicate<Person> narrowedPredicate = index.narrow(weekSevenPredicate);
+        List<Person> expectedPersons = filter(weekSevenPredicate);
+        assertFalse(expectedPersons.isEmpty());
+        assertEquals(expectedPersons, filter(narrowedPredicate));
+
+        // the bitmaps follow persons marked after the index was built
+        Person person = expectedPersons.get(0);
+        ExerciseTracker exerciseTracker = person.getExerciseTracker().copy();
+        exerciseTracker.markExercise(Index.fromZeroBased(3), true);
+        persons.setPerson(person, new Person(person.getStudentId(), person.getName(), person.getPhone(),
+                person.getEmail(), person.getTags(), person.getGithubUsername(), exerciseTracker,
+                person.getLabAttendanceList(), person.getGradeMap()));
+        assertEquals(expectedPersons.subList(1, expectedPersons.size()), filter(narrowedPredicate));
+    }
+
+    private List<Person> findSlots(BitSet slots) {
+        return filter(person -> index.isInSlots(person, slots));
+    }
+
+    private List<Person> find(Field field, String... keywords) {
+        BitSet slots = index.find(field, List.of(keywords));
+        return filter(person -> index.isInSlots(person, slots));
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return persons.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
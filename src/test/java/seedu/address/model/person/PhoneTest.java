@@ -6,6 +6,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorTestUtil;
+
 public class PhoneTest {
 
     @Test
@@ -57,4 +59,10 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void isValidPhone_acceptsSamePhonesAsValidationRegex() {
+        ValidatorTestUtil.assertSameLanguage(test -> test.matches(Phone.VALIDATION_REGEX), Phone::isValidPhone,
+                "09a \u0663", 5, "93121534", "124293842033123");
+    }
 }
@@ -6,6 +6,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorTestUtil;
+
 public class StudentIdTest {
 
     @Test
@@ -67,4 +69,10 @@ public class StudentIdTest {
         // different values -> returns false
         assertFalse(studentId.equals(new StudentId("A7654321Z")));
     }
+
+    @Test
+    public void isValidStudentId_acceptsSameIdsAsValidationRegex() {
+        ValidatorTestUtil.assertSameLanguage(test -> test.matches(StudentId.VALIDATION_REGEX),
+                StudentId::isValidStudentId, "Aa0Xz \n", 3, "A1234567X", "a0000000z");
+    }
 }
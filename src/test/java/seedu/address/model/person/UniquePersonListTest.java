@@ -6,16 +6,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.sortcriterion.NameSortCriterion;
+import seedu.address.model.person.sortcriterion.StudentIdSortCriterion;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -127,6 +136,78 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_keepsLaterPersonsAddressable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, ALICE);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void sort_thenSetPerson_replacesPersonAtSortedPosition() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort(Comparator.comparing(Person::getName));
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void sort_byCriterionAfterChanges_ordersCurrentPersons() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort(new NameSortCriterion());
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // the order kept for the criterion follows the changes, and persons with equal names are ordered by ID
+        Person editedBob = new PersonBuilder(BOB).withName("Zed").build();
+        Person aliceTwin = new PersonBuilder(ALICE).withStudentId("A0000000A").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.add(aliceTwin);
+        uniquePersonList.sort(new StudentIdSortCriterion());
+        uniquePersonList.sort(new NameSortCriterion());
+        assertEquals(Arrays.asList(aliceTwin, ALICE, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(editedBob), uniquePersonList.get(editedBob.getStudentId()));
+    }
+
+    @Test
+    public void getRanked_withAndWithoutOrder_sameRanking() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<Person> top = uniquePersonList.getRanked(new NameSortCriterion(), 3, false);
+        List<Person> bottom = uniquePersonList.getRanked(new NameSortCriterion(), 2, true);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), top);
+        assertEquals(Arrays.asList(GEORGE, FIONA), bottom);
+
+        // ranked from the order built by sorting
+        uniquePersonList.sort(new StudentIdSortCriterion());
+        uniquePersonList.sort(new NameSortCriterion());
+        assertEquals(top, uniquePersonList.getRanked(new NameSortCriterion(), 3, false));
+        assertEquals(bottom, uniquePersonList.getRanked(new NameSortCriterion(), 2, true));
+        assertEquals(getTypicalPersons(),
+                uniquePersonList.getRanked(new NameSortCriterion(), 100, false));
+        assertEquals(Collections.emptyList(), uniquePersonList.getRanked(new NameSortCriterion(), 0, true));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +243,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicateStudentIds_keepsOriginalList() {
+        uniquePersonList.add(CARL);
+        Person bobSameIdAsAlice = new PersonBuilder(BOB).withStudentId(ALICE.getStudentId().toString()).build();
+        List<Person> listWithDuplicateIds = Arrays.asList(ALICE, BOB, bobSameIdAsAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateIds));
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,116 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.helpers.Comparison;
+import seedu.address.model.Week;
+import seedu.address.model.person.CompactLabList;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlanTest {
+
+    // attended all labs and did exercise 0, attended half the labs, attended no labs and did exercise 0
+    private static final Person ALL_LABS = createPerson("A0000001X", 0b1111111111, 0b1);
+    private static final Person HALF_LABS = createPerson("A0000002X", 0b11111, 0);
+    private static final Person NO_LABS = createPerson("A0000003X", 0, 0b1);
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonSearchIndex index = persons.getSearchIndex();
+    private final Week currentWeek = new Week(0);
+
+    @BeforeEach
+    public void setUp() {
+        persons.setPersons(List.of(ALL_LABS, HALF_LABS, NO_LABS));
+    }
+
+    @Test
+    public void planAll_mixedPredicates_looksUpFirstAndTestsByRank() {
+        Predicate<Person> unplannable = person -> true;
+        Predicate<Person> acceptsAll = new LabAttendanceMatchesPredicate(0, Comparison.GE);
+        Predicate<Person> acceptsOne = new LabAttendanceMatchesPredicate(60, Comparison.GT);
+        Predicate<Person> exerciseDone = new ExerciseStatusMatchesPredicate(Index.fromZeroBased(0), Status.DONE,
+                currentWeek);
+        QueryPlan plan = QueryPlan.planAll(List.of(unplannable, acceptsAll, acceptsOne, exerciseDone), index);
+
+        // the exact look-up is not tested again, and the predicate that rules out the most persons is tested first
+        assertEquals(List.of(ALL_LABS, NO_LABS), findSlots(plan.getCandidates().get()));
+        assertEquals(List.of(acceptsOne, unplannable, acceptsAll), plan.getTestOrder());
+        assertEquals(List.of(ALL_LABS), filter(person -> index.isInSlots(person, plan.getCandidates().get())
+                && plan.test(person)));
+    }
+
+    @Test
+    public void planAll_noCandidatesLeft_skipsRemainingLookups() {
+        QueryPlan plan = QueryPlan.planAll(List.of(
+                new ExerciseStatusMatchesPredicate(Index.fromZeroBased(1), Status.DONE, currentWeek),
+                new LabStatusMatchesPredicate(Index.fromZeroBased(0), "Y", currentWeek)), index);
+        assertTrue(plan.getCandidates().get().isEmpty());
+        assertEquals(List.of(), plan.getTestOrder());
+        assertTrue(plan.getReport().contains("skip (no candidates left)"));
+    }
+
+    @Test
+    public void planAll_noSearchablePredicates_everyPersonIsCandidate() {
+        QueryPlan plan = QueryPlan.planAll(List.of(new LabAttendanceMatchesPredicate(50, Comparison.EQ)), index);
+        assertTrue(plan.getCandidates().isEmpty());
+        assertEquals(List.of(HALF_LABS), filter(plan));
+    }
+
+    @Test
+    public void planAny_keywordPredicates_testsLikelyAndCheapPredicatesFirst() {
+        // every person's phone has a 2 but no 1, and every person's name has an a
+        Predicate<Person> phone = new PhoneContainsKeywordsPredicate(List.of("1", "2"));
+        Predicate<Person> name = new NameContainsKeywordsPredicate(List.of("a"));
+        QueryPlan plan = QueryPlan.planAny(List.of(phone, name), index);
+        assertEquals(List.of(name, phone), plan.getTestOrder());
+        assertEquals(List.of(ALL_LABS, HALF_LABS, NO_LABS), filter(plan));
+
+        // a predicate that cannot be looked up leaves every person a candidate
+        Predicate<Person> unplannable = person -> false;
+        assertTrue(QueryPlan.planAny(List.of(name, unplannable), index).getCandidates().isEmpty());
+    }
+
+    @Test
+    public void getReport_describesEachStep() {
+        String report = QueryPlan.planAll(List.of(
+                new LabAttendanceMatchesPredicate(50, Comparison.GE),
+                new ExerciseStatusMatchesPredicate(Index.fromZeroBased(0), Status.DONE, currentWeek)), index)
+                .getReport();
+        assertTrue(report.startsWith("Plan for all of 2 conditions over 3 persons:"));
+        assertTrue(report.contains("look up (exact)"));
+        assertTrue(report.contains("=> 2 candidates"));
+        assertTrue(report.contains("accepts  66.7%  " + new LabAttendanceMatchesPredicate(50, Comparison.GE)));
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return persons.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private List<Person> findSlots(BitSet slots) {
+        return filter(person -> index.isInSlots(person, slots));
+    }
+
+    private static Person createPerson(String studentId, int attendedMask, int doneMask) {
+        Person person = new PersonBuilder().build();
+        return new Person(new StudentId(studentId), person.getName(), person.getPhone(), person.getEmail(),
+                person.getTags(), person.getGithubUsername(), new ExerciseTracker(doneMask),
+                new CompactLabList(attendedMask), new GradeMap());
+    }
+}
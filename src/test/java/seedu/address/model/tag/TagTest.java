@@ -4,6 +4,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorTestUtil;
+
 public class TagTest {
 
     @Test
@@ -23,4 +25,9 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_acceptsSameNamesAsValidationRegex() {
+        ValidatorTestUtil.assertSameLanguage(test -> test.matches(Tag.VALIDATION_REGEX), Tag::isValidTagName,
+                "aZ9 #\u00e9", 5, "friends", "owesMoney2");
+    }
 }
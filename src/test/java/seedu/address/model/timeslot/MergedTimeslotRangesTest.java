@@ -0,0 +1,88 @@
+package seedu.address.model.timeslot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MergedTimeslotRangesTest {
+
+    private static Timeslot slot(int startHour, int endHour) {
+        return new Timeslot(LocalDateTime.of(2025, 10, 1, startHour, 0), LocalDateTime.of(2025, 10, 1, endHour, 0));
+    }
+
+    private static void assertRange(int startHour, int endHour, LocalDateTime[] range) {
+        assertEquals(LocalDateTime.of(2025, 10, 1, startHour, 0), range[0]);
+        assertEquals(LocalDateTime.of(2025, 10, 1, endHour, 0), range[1]);
+    }
+
+    @Test
+    public void add_touchingTimeslots_mergedIntoOneRange() {
+        MergedTimeslotRanges ranges = new MergedTimeslotRanges();
+        ranges.add(slot(9, 10));
+        ranges.add(slot(11, 12));
+        ranges.add(slot(14, 15));
+        assertEquals(3, ranges.size());
+
+        // fills the gap between the first two ranges
+        ranges.add(slot(10, 11));
+        List<LocalDateTime[]> merged = ranges.getRanges();
+        assertEquals(2, merged.size());
+        assertRange(9, 12, merged.get(0));
+        assertRange(14, 15, merged.get(1));
+    }
+
+    @Test
+    public void add_outOfOrder_mergedIntoRangesInStartOrder() {
+        MergedTimeslotRanges ranges = new MergedTimeslotRanges();
+        List<Timeslot> sorted = List.of(slot(8, 9), slot(9, 10), slot(12, 13), slot(13, 15), slot(16, 17));
+        // add out of order to exercise merging on both sides
+        for (int i : new int[] {3, 0, 4, 1, 2}) {
+            ranges.add(sorted.get(i));
+        }
+        List<LocalDateTime[]> merged = ranges.getRanges();
+        assertEquals(3, merged.size());
+        assertRange(8, 10, merged.get(0));
+        assertRange(12, 15, merged.get(1));
+        assertRange(16, 17, merged.get(2));
+    }
+
+    @Test
+    public void remove_middleOfRange_splitsRange() {
+        MergedTimeslotRanges ranges = new MergedTimeslotRanges();
+        ranges.add(slot(9, 10));
+        ranges.add(slot(10, 11));
+        ranges.add(slot(11, 12));
+
+        ranges.remove(slot(10, 11));
+        List<LocalDateTime[]> merged = ranges.getRanges();
+        assertEquals(2, merged.size());
+        assertRange(9, 10, merged.get(0));
+        assertRange(11, 12, merged.get(1));
+
+        ranges.remove(slot(9, 10));
+        ranges.remove(slot(11, 12));
+        assertTrue(ranges.isEmpty());
+    }
+
+    @Test
+    public void slice_sortedRanges_returnsIntersectingRanges() {
+        MergedTimeslotRanges ranges = new MergedTimeslotRanges();
+        ranges.add(slot(8, 10));
+        ranges.add(slot(11, 12));
+        ranges.add(slot(14, 15));
+        List<LocalDateTime[]> all = ranges.getRanges();
+
+        List<LocalDateTime[]> slice = MergedTimeslotRanges.slice(all, LocalDateTime.of(2025, 10, 1, 10, 0),
+                LocalDateTime.of(2025, 10, 1, 15, 0));
+        assertEquals(2, slice.size());
+        assertRange(11, 12, slice.get(0));
+        assertRange(14, 15, slice.get(1));
+
+        assertTrue(MergedTimeslotRanges.slice(all, LocalDateTime.of(2025, 10, 2, 0, 0),
+                LocalDateTime.of(2025, 10, 3, 0, 0)).isEmpty());
+    }
+}
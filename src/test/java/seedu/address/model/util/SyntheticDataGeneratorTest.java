@@ -0,0 +1,96 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.person.CompactLabList;
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 6);
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        List<Person> first = new SyntheticDataGenerator(7).generatePersons(200);
+        List<Person> second = new SyntheticDataGenerator(7).generatePersons(200);
+        assertEquals(first, second);
+        assertNotEquals(first, new SyntheticDataGenerator(8).generatePersons(200));
+    }
+
+    @Test
+    public void generateAddressBook_distinctStudentIds() {
+        // AddressBook#setPersons rejects duplicate persons, so every generated student must be distinct
+        AddressBook addressBook = new SyntheticDataGenerator().generateAddressBook(5000);
+        assertEquals(5000, addressBook.getPersonList().size());
+        assertEquals(new Week(SyntheticDataGenerator.DEFAULT_WEEK), addressBook.getCurrentWeek());
+    }
+
+    @Test
+    public void generatePersons_firstWeek_nothingAttendedOrGraded() {
+        for (Person person : new SyntheticDataGenerator(1, 0).generatePersons(500)) {
+            assertEquals(0, ((CompactLabList) person.getLabAttendanceList()).getAttendedMask());
+            assertEquals(0, person.getGradeMap().getGradedMask());
+        }
+    }
+
+    @Test
+    public void generatePersons_midSemester_mixedStatuses() {
+        List<Person> persons = new SyntheticDataGenerator().generatePersons(2000);
+        long struggling = persons.stream().filter(person -> person.getTags().toString().contains("Struggling"))
+                .count();
+        long attendedFirstLab = persons.stream()
+                .filter(person -> person.getLabAttendanceList().getLabs()[0].isAttended()).count();
+        assertTrue(struggling > 0 && struggling < persons.size() / 2);
+        assertTrue(attendedFirstLab > persons.size() / 2 && attendedFirstLab < persons.size());
+    }
+
+    @Test
+    public void generateTimeslots_nonOverlapping() {
+        // Timeslots#addTimeslot rejects overlapping timeslots
+        Timeslots timeslots = new SyntheticDataGenerator().generateTimeslots(2000, FIRST_DAY);
+        assertEquals(2000, timeslots.getTimeslotList().size());
+        assertTrue(timeslots.getTimeslotList().stream()
+                .noneMatch(timeslot -> timeslot instanceof ConsultationTimeslot));
+    }
+
+    @Test
+    public void generateTimeslots_withRoster_consultationsOnWeekdays() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator();
+        List<Person> roster = generator.generatePersons(50);
+        Timeslots timeslots = generator.generateTimeslots(500, FIRST_DAY, roster);
+        assertEquals(500, timeslots.getTimeslotList().size());
+        assertTrue(timeslots.getTimeslotList().stream()
+                .anyMatch(timeslot -> timeslot instanceof ConsultationTimeslot));
+        for (Timeslot timeslot : timeslots.getTimeslotList()) {
+            DayOfWeek day = timeslot.getStart().getDayOfWeek();
+            assertFalse(day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY);
+            assertEquals(timeslot.getStart().toLocalDate(), timeslot.getEnd().toLocalDate());
+            assertFalse(timeslot.getStart().isBefore(FIRST_DAY.atTime(9, 0)));
+        }
+    }
+
+    @Test
+    public void constructor_invalidWeek_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1, Week.MAX_WEEK + 1));
+    }
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().generatePersons(-1));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
+import seedu.address.model.person.CompactLabList;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "BinaryAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_missingFileWithJsonFile_importsJsonFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"))
+                .readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(TEST_DATA_FOLDER.resolve("x.bin"));
+        assertThrows(DataLoadingException.class, () ->
+                storage.readAddressBook(TEST_DATA_FOLDER.resolve("notBinaryAddressBook.bin")));
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeShort(BinaryAddressBookStorage.VERSION + 1);
+        }
+
+        assertThrows(DataLoadingException.class, new BinaryAddressBookStorage(filePath)::readAddressBook);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setCurrentWeek(new Week(5));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getCurrentWeek(), readBack.getCurrentWeek());
+
+        // Trackers survive being packed into bitfields
+        Person tracked = new Person(HOON.getStudentId(), HOON.getName(), HOON.getPhone(), HOON.getEmail(),
+                HOON.getTags(), HOON.getGithubUsername(), new ExerciseTracker(0b1000000101),
+                new CompactLabList(0b11), new GradeMap(0b1011, 0b0010));
+        original.addPerson(tracked);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+public class BinaryTimeslotsStorageTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 10, 4, 10, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndReadTimeslots_success() throws Exception {
+        Path filePath = testFolder.resolve("timeslots.bin");
+        BinaryTimeslotsStorage storage = new BinaryTimeslotsStorage(filePath);
+
+        Timeslots original = new Timeslots();
+        original.addTimeslot(new Timeslot(START, START.plusHours(2)));
+        original.addTimeslot(new ConsultationTimeslot(START.plusHours(2), START.plusHours(3), "Alex Yeoh"));
+        storage.saveTimeslots(original);
+
+        assertEquals(original, new Timeslots(storage.readTimeslots().get()));
+    }
+
+    @Test
+    public void readTimeslots_missingFileWithJsonFile_importsJsonFile() throws Exception {
+        Timeslots original = new Timeslots();
+        original.addTimeslot(new Timeslot(START, START.plusHours(2)));
+        new JsonTimeslotsStorage(testFolder.resolve("timeslots.json")).saveTimeslots(original);
+
+        BinaryTimeslotsStorage storage = new BinaryTimeslotsStorage(testFolder.resolve("timeslots.bin"));
+        assertEquals(original, new Timeslots(storage.readTimeslots().get()));
+    }
+
+    @Test
+    public void readTimeslots_overlappingTimeslots_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("timeslots.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryTimeslotsStorage.MAGIC);
+            out.writeShort(BinaryTimeslotsStorage.VERSION);
+            out.writeInt(2);
+            for (int i = 0; i < 2; i++) {
+                out.writeLong(START.plusHours(i).toEpochSecond(ZoneOffset.UTC));
+                out.writeLong(START.plusHours(i + 2).toEpochSecond(ZoneOffset.UTC));
+                out.writeBoolean(false);
+            }
+        }
+
+        assertThrows(DataLoadingException.class, new BinaryTimeslotsStorage(filePath)::readTimeslots);
+    }
+
+    @Test
+    public void readTimeslots_addressBookFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("timeslots.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        assertThrows(DataLoadingException.class, new BinaryTimeslotsStorage(filePath)::readTimeslots);
+    }
+}
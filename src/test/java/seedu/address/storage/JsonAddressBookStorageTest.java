@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +61,35 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_nonObjectPersonEntry_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("nonObjectPersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_nonArrayPersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("nonArrayPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_invalidWeekAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("invalidWeekAddressBook.json"));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compactFormat_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // compact files can be read by pretty printing storage and vice versa
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ModelChange;
+import seedu.address.model.Week;
+import seedu.address.model.timeslot.ConsultationTimeslot;
+
+public class JsonOperationJournalTest {
+
+    private static final List<ModelChange> CHANGES = List.of(
+            ModelChange.addPerson(ALICE),
+            ModelChange.setPerson(ALICE.getStudentId(), BOB),
+            ModelChange.deletePerson(BOB.getStudentId()),
+            ModelChange.setWeek(new Week(5)),
+            ModelChange.addTimeslot(new ConsultationTimeslot(LocalDateTime.of(2025, 10, 1, 9, 0),
+                    LocalDateTime.of(2025, 10, 1, 10, 0), "Alice")),
+            ModelChange.clearTimeslots());
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readChanges_missingFile_emptyList() throws Exception {
+        JsonOperationJournal journal = new JsonOperationJournal(testFolder.resolve("missing.jsonl"));
+        assertTrue(journal.readChanges().isEmpty());
+        assertEquals(0, journal.size());
+    }
+
+    @Test
+    public void appendAndRead_allKinds_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonOperationJournal journal = new JsonOperationJournal(filePath);
+        journal.append(CHANGES.subList(0, 2));
+        journal.append(CHANGES.subList(2, CHANGES.size()));
+
+        // one compact record per line
+        assertEquals(CHANGES.size(), Files.readAllLines(filePath).size());
+        assertEquals(CHANGES.size(), journal.size());
+
+        JsonOperationJournal reopened = new JsonOperationJournal(filePath);
+        assertEquals(CHANGES.size(), reopened.size());
+        assertEquals(CHANGES, reopened.readChanges());
+        assertTrue(reopened.isIntact());
+    }
+
+    @Test
+    public void readChanges_incompleteLastRecord_returnsEarlierRecords() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonOperationJournal journal = new JsonOperationJournal(filePath);
+        journal.append(CHANGES.subList(0, 1));
+        Files.write(filePath, "{\"kind\":\"DELETE_PER".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(CHANGES.subList(0, 1), journal.readChanges());
+        assertFalse(journal.isIntact());
+    }
+
+    @Test
+    public void clear_removesAllRecords() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonOperationJournal journal = new JsonOperationJournal(filePath);
+        journal.append(CHANGES);
+        journal.clear();
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(0, journal.size());
+        assertTrue(journal.readChanges().isEmpty());
+    }
+}
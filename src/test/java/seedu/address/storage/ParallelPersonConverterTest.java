@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonConverter.BATCH_SIZE * 2 + 100;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void getPersons_noPersons_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), new ParallelPersonConverter(pool).getPersons());
+    }
+
+    @Test
+    public void getPersons_manyPersons_keepsOrder() throws Exception {
+        List<Person> expected = createPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool);
+        for (Person person : expected) {
+            converter.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(expected, converter.getPersons());
+    }
+
+    @Test
+    public void getPersons_severalInvalidPersons_reportsEarliest() {
+        List<Person> persons = createPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool);
+        for (int i = 0; i < persons.size(); i++) {
+            boolean isInvalid = i == 10 || i == ParallelPersonConverter.BATCH_SIZE + 1 || i == PERSON_COUNT - 1;
+            converter.add(isInvalid ? withInvalidName(persons.get(i)) : new JsonAdaptedPerson(persons.get(i)));
+        }
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_RECORD, 11,
+                " (" + persons.get(10).getStudentId() + ")", Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage,
+                converter::getPersons);
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withStudentId(String.format("A%07dZ", i))
+                    .withName("Student " + i)
+                    .withGithubUsername("student" + i)
+                    .build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withInvalidName(Person person) {
+        return new JsonAdaptedPerson(person.getStudentId().value, "R@chel", person.getPhone().value,
+                person.getEmail().value, new ArrayList<>(), person.getGithubUsername().value,
+                person.getLabAttendanceList().toString(), new HashMap<>());
+    }
+}
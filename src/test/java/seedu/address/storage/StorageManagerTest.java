@@ -1,11 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +23,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.Timeslots;
@@ -91,4 +102,246 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getTimeslotsFilePath());
     }
 
+    @Test
+    public void saveChanges_dataFilesExist_appendsToJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        storageManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, timeslots);
+        long addressBookSize = Files.size(storageManager.getAddressBookFilePath());
+
+        addressBook.addPerson(AMY);
+        storageManager.saveChanges(List.of(ModelChange.addPerson(AMY)), addressBook, timeslots);
+
+        // only the journal is written; replaying it onto the data files restores the address book
+        assertEquals(addressBookSize, Files.size(storageManager.getAddressBookFilePath()));
+        List<ModelChange> journaled = storageManager.readJournal();
+        assertEquals(List.of(ModelChange.addPerson(AMY)), journaled);
+        AddressBook restored = new AddressBook(storageManager.readAddressBook().get());
+        Timeslots restoredTimeslots = new Timeslots(storageManager.readTimeslots().get());
+        journaled.forEach(change -> change.applyTo(restored, restoredTimeslots));
+        assertEquals(addressBook, restored);
+
+        storageManager.compact(addressBook, timeslots);
+        assertFalse(Files.exists(storageManager.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChanges_dataFilesMissing_writesDataFiles() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        storageManager.saveChanges(List.of(ModelChange.addPerson(AMY)), addressBook, new Timeslots());
+
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+        assertTrue(Files.exists(storageManager.getTimeslotsFilePath()));
+        assertTrue(storageManager.readJournal().isEmpty());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void discardJournal_nextSaveWritesDataFiles() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        storageManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, timeslots);
+        storageManager.saveChanges(List.of(ModelChange.addPerson(AMY)), addressBook, timeslots);
+        assertTrue(Files.exists(storageManager.getJournalFilePath()));
+
+        // the app starts afresh from an empty address book, so the old journal must not be appended to
+        storageManager.discardJournal();
+        assertFalse(Files.exists(storageManager.getJournalFilePath()));
+        AddressBook freshAddressBook = new AddressBook();
+        freshAddressBook.addPerson(BOB);
+        storageManager.saveChanges(List.of(ModelChange.addPerson(BOB)), freshAddressBook, timeslots);
+        assertFalse(Files.exists(storageManager.getJournalFilePath()));
+        assertEquals(freshAddressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChanges_noChanges_writesNothing() throws Exception {
+        storageManager.saveChanges(List.of(), new AddressBook(), new Timeslots());
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+        assertFalse(Files.exists(storageManager.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveChanges_writeBehind_savesAfterFlush() throws Exception {
+        storageManager.setWriteBehind(true);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        storageManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, new Timeslots());
+
+        // later changes to the live data do not leak into the queued snapshot
+        addressBook.removePerson(AMY);
+        storageManager.flush();
+        AddressBook expected = new AddressBook();
+        expected.addPerson(AMY);
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+        storageManager.setWriteBehind(false);
+    }
+
+    @Test
+    public void saveChanges_writeBehindJournaledChanges_savedWithoutSnapshot() throws Exception {
+        storageManager.setWriteBehind(true);
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        storageManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, timeslots);
+        storageManager.flush();
+        long addressBookSize = Files.size(storageManager.getAddressBookFilePath());
+
+        // the journal records the change itself, so later changes to the live data do not matter
+        addressBook.addPerson(AMY);
+        storageManager.saveChanges(List.of(ModelChange.addPerson(AMY)), addressBook, timeslots);
+        addressBook.removePerson(AMY);
+        storageManager.flush();
+        assertEquals(List.of(ModelChange.addPerson(AMY)), storageManager.readJournal());
+        assertEquals(addressBookSize, Files.size(storageManager.getAddressBookFilePath()));
+        storageManager.setWriteBehind(false);
+    }
+
+    @Test
+    public void saveChanges_writeBehindDataFileDeleted_rewrittenFromNextSnapshot() throws Exception {
+        storageManager.setWriteBehind(true);
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        storageManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, timeslots);
+        storageManager.flush();
+
+        // no snapshot is queued with a journaled change, so the missing file waits for the next one
+        Files.delete(storageManager.getAddressBookFilePath());
+        addressBook.addPerson(AMY);
+        storageManager.saveChanges(List.of(ModelChange.addPerson(AMY)), addressBook, timeslots);
+        storageManager.flush();
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        addressBook.removePerson(AMY);
+        storageManager.saveChanges(List.of(ModelChange.deletePerson(AMY.getStudentId())), addressBook, timeslots);
+        storageManager.flush();
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertTrue(storageManager.readJournal().isEmpty());
+        storageManager.setWriteBehind(false);
+    }
+
+    @Test
+    public void saveChanges_writeBehindJournalFailureWithChangesQueued_queuedChangesJournaled() throws Exception {
+        CountDownLatch appendStarted = new CountDownLatch(1);
+        CountDownLatch appendFailing = new CountDownLatch(1);
+        IOException failure = new IOException("disk full");
+        JsonOperationJournal failingJournal = new JsonOperationJournal(getTempFilePath("journal")) {
+            private boolean hasFailed;
+
+            @Override
+            public void append(List<ModelChange> changes) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    appendStarted.countDown();
+                    awaitQuietly(appendFailing);
+                    throw failure;
+                }
+                super.append(changes);
+            }
+        };
+        StorageManager failingManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonTimeslotsStorage(getTempFilePath("ts")),
+                failingJournal);
+        List<IOException> reported = new ArrayList<>();
+        failingManager.setWriteErrorHandler(reported::add);
+        failingManager.setWriteBehind(true);
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        failingManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, timeslots);
+        failingManager.flush();
+
+        // BOB is queued without a snapshot while the append of AMY is failing
+        addressBook.addPerson(AMY);
+        failingManager.saveChanges(List.of(ModelChange.addPerson(AMY)), addressBook, timeslots);
+        assertTrue(appendStarted.await(10, TimeUnit.SECONDS));
+        addressBook.addPerson(BOB);
+        failingManager.saveChanges(List.of(ModelChange.addPerson(BOB)), addressBook, timeslots);
+        appendFailing.countDown();
+        failingManager.flush();
+        assertEquals(List.of(failure), reported);
+        assertEquals(List.of(ModelChange.addPerson(BOB)),
+                new JsonOperationJournal(getTempFilePath("journal")).readChanges());
+
+        // the compaction is still pending, so the next changes bring a snapshot that rewrites the data files
+        addressBook.removePerson(BOB);
+        failingManager.saveChanges(List.of(ModelChange.deletePerson(BOB.getStudentId())), addressBook, timeslots);
+        failingManager.flush();
+        assertEquals(addressBook, new AddressBook(failingManager.readAddressBook().get()));
+        assertTrue(new JsonOperationJournal(getTempFilePath("journal")).readChanges().isEmpty());
+        failingManager.setWriteBehind(false);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void saveChanges_writeBehindFailure_reportedToHandler() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager failingManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonTimeslotsStorage(getTempFilePath("ts")));
+        List<IOException> reported = new ArrayList<>();
+        failingManager.setWriteErrorHandler(reported::add);
+        failingManager.setWriteBehind(true);
+
+        failingManager.saveChanges(List.of(ModelChange.resetAddressBook()), new AddressBook(), new Timeslots());
+        failingManager.flush();
+        assertEquals(List.of(failure), reported);
+        failingManager.setWriteBehind(false);
+    }
+
+    @Test
+    public void compact_onlyTimeslotsChanged_writesOnlyTimeslotsFile() throws Exception {
+        List<String> writtenFiles = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writtenFiles.add("ab");
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonTimeslotsStorage timeslotsStorage = new JsonTimeslotsStorage(getTempFilePath("ts")) {
+            @Override
+            public void saveTimeslots(ReadOnlyTimeslots timeslots, Path filePath) throws IOException {
+                writtenFiles.add("ts");
+                super.saveTimeslots(timeslots, filePath);
+            }
+        };
+        StorageManager countingManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), timeslotsStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        countingManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, timeslots);
+        assertEquals(List.of("ab", "ts"), writtenFiles);
+
+        // journaled timeslot changes are compacted into the timeslots file alone
+        writtenFiles.clear();
+        Timeslot slot = new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0), LocalDateTime.of(2025, 10, 4, 13, 0));
+        timeslots.addTimeslot(slot);
+        countingManager.saveChanges(List.of(ModelChange.addTimeslot(slot)), addressBook, timeslots);
+        assertTrue(writtenFiles.isEmpty());
+        countingManager.compact(addressBook, timeslots);
+        assertEquals(List.of("ts"), writtenFiles);
+
+        // replacing the timeslots wholesale writes only the timeslots file
+        writtenFiles.clear();
+        countingManager.saveChanges(List.of(ModelChange.resetTimeslots()), addressBook, new Timeslots());
+        assertEquals(List.of("ts"), writtenFiles);
+
+        // nothing left to compact
+        writtenFiles.clear();
+        countingManager.compact(addressBook, timeslots);
+        assertTrue(writtenFiles.isEmpty());
+    }
 }
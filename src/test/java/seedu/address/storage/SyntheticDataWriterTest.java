@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class SyntheticDataWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_jsonFiles_readBackAsGenerated() throws Exception {
+        assertWrittenAsGenerated(testFolder.resolve("addressbook.json"), testFolder.resolve("timeslots.json"));
+    }
+
+    @Test
+    public void write_binaryFiles_readBackAsGenerated() throws Exception {
+        assertWrittenAsGenerated(testFolder.resolve("addressbook.bin"), testFolder.resolve("timeslots.bin"));
+    }
+
+    private void assertWrittenAsGenerated(Path addressBookFilePath, Path timeslotsFilePath) throws Exception {
+        SyntheticDataWriter.write(new SyntheticDataGenerator(3), 300, 60, SyntheticDataWriter.DEFAULT_FIRST_DAY,
+                addressBookFilePath, timeslotsFilePath);
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3);
+        AddressBook expectedAddressBook = generator.generateAddressBook(300);
+        ReadOnlyTimeslots expectedTimeslots = generator.generateTimeslots(60, SyntheticDataWriter.DEFAULT_FIRST_DAY,
+                expectedAddressBook.getPersonList());
+
+        ReadOnlyAddressBook readAddressBook =
+                StorageManager.createAddressBookStorage(addressBookFilePath).readAddressBook().get();
+        ReadOnlyTimeslots readTimeslots =
+                StorageManager.createTimeslotsStorage(timeslotsFilePath).readTimeslots().get();
+        assertEquals(expectedAddressBook, new AddressBook(readAddressBook));
+        assertEquals(expectedTimeslots.getTimeslotList(), readTimeslots.getTimeslotList());
+    }
+}
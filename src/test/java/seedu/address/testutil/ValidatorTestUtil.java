@@ -0,0 +1,51 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Predicate;
+
+/**
+ * A utility class for checking that a hand-written validator accepts exactly the strings a reference one does.
+ */
+public class ValidatorTestUtil {
+
+    /**
+     * Asserts that {@code actual} and {@code expected} agree on every string over {@code alphabet} of at most
+     * {@code maxLength} characters, and on every string one substitution, insertion or deletion away from one of
+     * {@code samples}.
+     */
+    public static void assertSameLanguage(Predicate<String> expected, Predicate<String> actual, String alphabet,
+                                          int maxLength, String... samples) {
+        assertAllStrings(expected, actual, alphabet, "", maxLength);
+        for (String sample : samples) {
+            assertAgree(expected, actual, sample);
+            for (int i = 0; i <= sample.length(); i++) {
+                String prefix = sample.substring(0, i);
+                if (i < sample.length()) {
+                    assertAgree(expected, actual, prefix + sample.substring(i + 1));
+                }
+                for (char c : alphabet.toCharArray()) {
+                    assertAgree(expected, actual, prefix + c + sample.substring(i));
+                    if (i < sample.length()) {
+                        assertAgree(expected, actual, prefix + c + sample.substring(i + 1));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertAllStrings(Predicate<String> expected, Predicate<String> actual, String alphabet,
+                                         String prefix, int remainingLength) {
+        assertAgree(expected, actual, prefix);
+        if (remainingLength == 0) {
+            return;
+        }
+        for (char c : alphabet.toCharArray()) {
+            assertAllStrings(expected, actual, alphabet, prefix + c, remainingLength - 1);
+        }
+    }
+
+    private static void assertAgree(Predicate<String> expected, Predicate<String> actual, String test) {
+        assertEquals(expected.test(test), actual.test(test), "Validators disagree on \"" + test + "\"");
+    }
+}